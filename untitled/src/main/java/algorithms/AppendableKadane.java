@@ -0,0 +1,183 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Growable int array that keeps its maximum subarray up to date as values are
+ * appended. The Kadane state (running sum, its start, and the best so far) is
+ * carried between calls, so appending m values costs O(m) however long the array
+ * already is, and reading the result is O(1). Unlike {@link StreamingKadane} the
+ * values themselves are retained in a primitive buffer owned by the handle, so
+ * the array can still be read back or handed to other engines.
+ *
+ * Produces the same sum and indices as the sequential scan of the whole array.
+ * Sums are kept in long. Not thread-safe.
+ *
+ * Time Complexity: amortized O(1) per appended value, O(1) per query
+ * Space Complexity: O(n)
+ */
+public class AppendableKadane {
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int size;
+
+    private long maxEndingHere;
+    private int tempStart;
+    private long maxSoFar;
+    private int start;
+    private int end;
+
+    public AppendableKadane() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AppendableKadane(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.values = new int[initialCapacity];
+        clear();
+    }
+
+    /**
+     * Removes all values; the buffer is kept for reuse
+     */
+    public void clear() {
+        size = 0;
+        // A negative running sum forces the first value to open a new subarray
+        maxEndingHere = -1;
+        tempStart = 0;
+        maxSoFar = Long.MIN_VALUE;
+        start = 0;
+        end = 0;
+    }
+
+    /**
+     * Appends a single value
+     */
+    public void append(int value) {
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size] = value;
+
+        if (maxEndingHere < 0) {
+            maxEndingHere = value;
+            tempStart = size;
+        } else {
+            maxEndingHere += value;
+        }
+        if (maxEndingHere > maxSoFar) {
+            maxSoFar = maxEndingHere;
+            start = tempStart;
+            end = size;
+        }
+        size++;
+    }
+
+    /**
+     * Appends a whole chunk
+     */
+    public void append(int[] chunk) {
+        if (chunk == null) {
+            throw new IllegalArgumentException("Chunk cannot be null");
+        }
+        append(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Appends chunk[offset, offset + length)
+     */
+    public void append(int[] chunk, int offset, int length) {
+        if (chunk == null) {
+            throw new IllegalArgumentException("Chunk cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > chunk.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + chunk.length);
+        }
+        if (length > values.length - size) {
+            grow((long) size + length);
+        }
+        System.arraycopy(chunk, offset, values, size, length);
+
+        // Scan the copied tail on locals so the loop does not write fields per element
+        int[] buffer = values;
+        long running = maxEndingHere;
+        int runningStart = tempStart;
+        long best = maxSoFar;
+        int bestStart = start;
+        int bestEnd = end;
+
+        int limit = size + length;
+        for (int i = size; i < limit; i++) {
+            if (running < 0) {
+                running = buffer[i];
+                runningStart = i;
+            } else {
+                running += buffer[i];
+            }
+            if (running > best) {
+                best = running;
+                bestStart = runningStart;
+                bestEnd = i;
+            }
+        }
+
+        size = limit;
+        maxEndingHere = running;
+        tempStart = runningStart;
+        maxSoFar = best;
+        start = bestStart;
+        end = bestEnd;
+    }
+
+    private void grow(long minCapacity) {
+        if (minCapacity > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Array would exceed the maximum capacity: " + minCapacity);
+        }
+        long doubled = Math.max(2L * values.length, DEFAULT_CAPACITY);
+        int capacity = (int) Math.min(Math.max(doubled, minCapacity), Integer.MAX_VALUE - 8);
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    /**
+     * Returns the best subarray of everything appended so far
+     *
+     * @throws IllegalStateException if the array is empty
+     */
+    public LongMaximumSubarrayResult current() {
+        if (size == 0) {
+            throw new IllegalStateException("No values have been appended");
+        }
+        return new LongMaximumSubarrayResult(maxSoFar, start, end);
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Copy of the appended values
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Allocation-free accessors; only meaningful when the array is non-empty
+     */
+    public long getMaxSum() { return maxSoFar; }
+    public int getStartIndex() { return start; }
+    public int getEndIndex() { return end; }
+
+    // Getters
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int getCapacity() { return values.length; }
+    public long getMaxEndingHere() { return maxEndingHere; }
+}
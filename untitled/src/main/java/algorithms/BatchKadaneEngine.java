@@ -0,0 +1,253 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+import metrics.PerformanceTracker;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the maximum subarray scan over many independent arrays on a ForkJoinPool.
+ * Arrays are ordered by length, largest first, and one worker per pool thread
+ * claims the next array from a shared atomic cursor, so long arrays start early
+ * and short ones fill the gaps at the end (longest-processing-time-first).
+ * Results land in a primitive {@link SubarrayResults} in input order.
+ *
+ * When a tracker is supplied each worker records its runs in a private
+ * PerformanceTracker, using the same counters as {@link InstrumentedEngine},
+ * and the worker trackers are merged into the supplied one after the batch.
+ *
+ * Time Complexity: O(total length / p + m log m) for m arrays
+ * Space Complexity: O(m)
+ */
+public class BatchKadaneEngine {
+    private final ForkJoinPool pool;
+    private final MaximumSubarrayEngine engine;
+    private final FastKadaneEngine bufferEngine = new FastKadaneEngine();
+
+    public BatchKadaneEngine() {
+        this(ForkJoinPool.commonPool(), new FastKadaneEngine());
+    }
+
+    public BatchKadaneEngine(ForkJoinPool pool) {
+        this(pool, new FastKadaneEngine());
+    }
+
+    /**
+     * @param engine scan applied to int[] inputs; called from several threads at once
+     */
+    public BatchKadaneEngine(ForkJoinPool pool, MaximumSubarrayEngine engine) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (engine == null) {
+            throw new IllegalArgumentException("Engine cannot be null");
+        }
+        this.pool = pool;
+        this.engine = engine;
+    }
+
+    public SubarrayResults run(int[][] arrays) {
+        return run(arrays, null, null);
+    }
+
+    /**
+     * Scans every array; when tracker is non-null one run per array is merged into it,
+     * labelled with inputTypes[k] (or "standard" when inputTypes is null)
+     */
+    public SubarrayResults run(int[][] arrays, String[] inputTypes, PerformanceTracker tracker) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Input arrays cannot be null");
+        }
+        long[] lengths = new long[arrays.length];
+        for (int k = 0; k < arrays.length; k++) {
+            if (arrays[k] == null) {
+                throw new IllegalArgumentException("Input array cannot be null");
+            }
+            lengths[k] = arrays[k].length;
+        }
+        return execute(lengths, inputTypes, tracker, k -> engine.findMaximumSubarray(arrays[k]));
+    }
+
+    public SubarrayResults runBuffers(List<IntBuffer> buffers) {
+        return runBuffers(buffers, null, null);
+    }
+
+    /**
+     * Scans the remaining elements of every buffer without moving their positions;
+     * indices are relative to each buffer's position
+     */
+    public SubarrayResults runBuffers(List<IntBuffer> buffers, String[] inputTypes, PerformanceTracker tracker) {
+        if (buffers == null) {
+            throw new IllegalArgumentException("Input buffers cannot be null");
+        }
+        IntBuffer[] inputs = buffers.toArray(new IntBuffer[0]);
+        long[] lengths = new long[inputs.length];
+        for (int k = 0; k < inputs.length; k++) {
+            if (inputs[k] == null) {
+                throw new IllegalArgumentException("Input buffer cannot be null");
+            }
+            lengths[k] = inputs[k].remaining();
+        }
+        return execute(lengths, inputTypes, tracker, k -> bufferEngine.findMaximumSubarray(inputs[k]));
+    }
+
+    public ForkJoinPool getPool() { return pool; }
+    public MaximumSubarrayEngine getEngine() { return engine; }
+
+    private SubarrayResults execute(long[] lengths, String[] inputTypes, PerformanceTracker tracker, Scan scan) {
+        int count = lengths.length;
+        if (inputTypes != null && inputTypes.length != count) {
+            throw new IllegalArgumentException("Test arrays and input types must have same length");
+        }
+
+        Batch batch = new Batch(lengths, inputTypes, scan, longestFirst(lengths));
+        int workers = Math.max(1, Math.min(pool.getParallelism(), count));
+        PerformanceTracker[] trackers = new PerformanceTracker[workers];
+        if (tracker != null) {
+            for (int w = 0; w < workers; w++) {
+                trackers[w] = new PerformanceTracker(tracker.getAlgorithmName());
+            }
+        }
+
+        if (count > 0) {
+            pool.invoke(new BatchTask(batch, trackers));
+        }
+
+        if (tracker != null) {
+            for (PerformanceTracker workerTracker : trackers) {
+                tracker.merge(workerTracker);
+            }
+        }
+        return new SubarrayResults(batch.sums, batch.starts, batch.ends);
+    }
+
+    /**
+     * Input positions sorted by descending length; (length, position) pairs are packed
+     * into longs so the sort is primitive
+     */
+    private static int[] longestFirst(long[] lengths) {
+        long[] keys = new long[lengths.length];
+        for (int k = 0; k < lengths.length; k++) {
+            keys[k] = (lengths[k] << 32) | k;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[lengths.length];
+        for (int k = 0; k < keys.length; k++) {
+            order[k] = (int) keys[keys.length - 1 - k];
+        }
+        return order;
+    }
+
+    @FunctionalInterface
+    private interface Scan {
+        MaximumSubarrayResult apply(int k);
+    }
+
+    /**
+     * Shared state of one batch: the schedule, the cursor and the result arrays
+     */
+    private static final class Batch {
+        final long[] lengths;
+        final String[] inputTypes;
+        final Scan scan;
+        final int[] order;
+        final AtomicInteger cursor = new AtomicInteger();
+        final long[] sums;
+        final int[] starts;
+        final int[] ends;
+
+        Batch(long[] lengths, String[] inputTypes, Scan scan, int[] order) {
+            this.lengths = lengths;
+            this.inputTypes = inputTypes;
+            this.scan = scan;
+            this.order = order;
+            this.sums = new long[lengths.length];
+            this.starts = new int[lengths.length];
+            this.ends = new int[lengths.length];
+        }
+    }
+
+    /**
+     * Starts one worker per tracker slot and waits for all of them
+     */
+    private static final class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Batch batch;
+        private final PerformanceTracker[] trackers;
+
+        BatchTask(Batch batch, PerformanceTracker[] trackers) {
+            this.batch = batch;
+            this.trackers = trackers;
+        }
+
+        @Override
+        protected void compute() {
+            Worker[] workers = new Worker[trackers.length];
+            for (int w = 0; w < workers.length; w++) {
+                workers[w] = new Worker(batch, trackers[w]);
+            }
+            invokeAll(workers);
+        }
+    }
+
+    /**
+     * Claims arrays from the cursor until the batch is exhausted
+     */
+    private static final class Worker extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Batch batch;
+        private final PerformanceTracker tracker;
+
+        Worker(Batch batch, PerformanceTracker tracker) {
+            this.batch = batch;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected void compute() {
+            for (int next = batch.cursor.getAndIncrement(); next < batch.order.length;
+                 next = batch.cursor.getAndIncrement()) {
+                int k = batch.order[next];
+                if (tracker == null) {
+                    store(k, batch.scan.apply(k));
+                } else {
+                    store(k, tracked(k));
+                }
+            }
+        }
+
+        /**
+         * Same accounting as {@link InstrumentedEngine}
+         */
+        private MaximumSubarrayResult tracked(int k) {
+            int n = (int) batch.lengths[k];
+            tracker.reset();
+            tracker.setInputSize(n);
+            tracker.setInputType(batch.inputTypes == null ? "standard" : batch.inputTypes[k]);
+            tracker.startTimer();
+
+            MaximumSubarrayResult result = batch.scan.apply(k);
+
+            tracker.stopTimer();
+            tracker.incrementMemoryAllocation();
+            tracker.incrementArrayAccesses(n);
+            tracker.incrementComparisons(2 * (n - 1));
+            tracker.recordRun();
+            return result;
+        }
+
+        private void store(int k, MaximumSubarrayResult result) {
+            batch.sums[k] = result.getMaxSum();
+            batch.starts[k] = result.getStartIndex();
+            batch.ends[k] = result.getEndIndex();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Answers a large batch of range maximum-subarray queries against one array.
+ * Queries are bucketed by the block holding their left end (a counting sort, so
+ * O(q + buckets)) and answered in that order, which keeps the partial-block scans
+ * and the tree paths of neighbouring queries in cache. The sorted batch is then
+ * split into chunks across a ForkJoinPool, each chunk with its own scratch store.
+ *
+ * Mo's algorithm does not apply here: it moves a window by adding and removing
+ * single elements, and a maximum-subarray summary cannot be updated on removal.
+ * Each query is instead answered from a {@link RangeMaxSubarrayIndex}.
+ *
+ * Time Complexity: O(q * (log(n / B) + B) / p) after an O(n / p) index build
+ * Space Complexity: O(q) for the ordering and the result arrays
+ */
+public class BatchRangeQueryEngine {
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 11;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public BatchRangeQueryEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public BatchRangeQueryEngine(ForkJoinPool pool) {
+        this(pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    public BatchRangeQueryEngine(ForkJoinPool pool, int chunkSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Builds an index over nums and answers queries [l[k], r[k]], both ends inclusive
+     */
+    public Results query(int[] nums, int[] l, int[] r) {
+        return query(new RangeMaxSubarrayIndex(nums, RangeMaxSubarrayIndex.DEFAULT_BLOCK_SIZE, pool), l, r);
+    }
+
+    /**
+     * Answers queries [l[k], r[k]], both ends inclusive, against an existing index
+     */
+    public Results query(RangeMaxSubarrayIndex index, int[] l, int[] r) {
+        if (index == null) {
+            throw new IllegalArgumentException("Index cannot be null");
+        }
+        if (l == null || r == null) {
+            throw new IllegalArgumentException("Query bounds cannot be null");
+        }
+        if (l.length != r.length) {
+            throw new IllegalArgumentException("Query bounds must have same length");
+        }
+
+        Results results = new Results(l.length);
+        if (l.length == 0) {
+            return results;
+        }
+
+        int[] order = bucketByLeftBlock(index, l);
+        if (l.length <= chunkSize) {
+            new QueryTask(index, l, r, order, 0, order.length, chunkSize, results).compute();
+        } else {
+            pool.invoke(new QueryTask(index, l, r, order, 0, order.length, chunkSize, results));
+        }
+        return results;
+    }
+
+    public ForkJoinPool getPool() { return pool; }
+    public int getChunkSize() { return chunkSize; }
+
+    /**
+     * Counting sort of query positions by left block. Blocks are coarsened so the
+     * bucket array never outgrows the batch; out-of-range bounds are left for the
+     * index to reject.
+     */
+    private static int[] bucketByLeftBlock(RangeMaxSubarrayIndex index, int[] l) {
+        int shift = 0;
+        while ((index.getBlockCount() >> shift) > l.length) {
+            shift++;
+        }
+        int buckets = (index.getBlockCount() >> shift) + 1;
+
+        int[] start = new int[buckets + 1];
+        for (int left : l) {
+            start[bucketOf(index, left, shift, buckets) + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            start[b + 1] += start[b];
+        }
+
+        int[] order = new int[l.length];
+        for (int k = 0; k < l.length; k++) {
+            order[start[bucketOf(index, l[k], shift, buckets)]++] = k;
+        }
+        return order;
+    }
+
+    private static int bucketOf(RangeMaxSubarrayIndex index, int left, int shift, int buckets) {
+        if (left < 0) {
+            return 0;
+        }
+        return Math.min((left / index.getBlockSize()) >> shift, buckets - 1);
+    }
+
+    /**
+     * Answers order[from, to), halving until a chunk fits in one worker
+     */
+    static final class QueryTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeMaxSubarrayIndex index;
+        private final int[] l;
+        private final int[] r;
+        private final int[] order;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Results results;
+
+        QueryTask(RangeMaxSubarrayIndex index, int[] l, int[] r, int[] order,
+                  int from, int to, int chunkSize, Results results) {
+            this.index = index;
+            this.l = l;
+            this.r = r;
+            this.order = order;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                SummaryStore scratch = new SummaryStore(RangeMaxSubarrayIndex.SCRATCH_SLOTS);
+                for (int i = from; i < to; i++) {
+                    int k = order[i];
+                    index.queryInto(l[k], r[k], scratch);
+                    results.sums[k] = scratch.best[RangeMaxSubarrayIndex.LEFT];
+                    results.starts[k] = (int) scratch.bestStart[RangeMaxSubarrayIndex.LEFT];
+                    results.ends[k] = (int) scratch.bestEnd[RangeMaxSubarrayIndex.LEFT];
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new QueryTask(index, l, r, order, from, mid, chunkSize, results),
+                      new QueryTask(index, l, r, order, mid, to, chunkSize, results));
+        }
+    }
+
+    /**
+     * Answers in query order, held in primitive arrays. The arrays are returned
+     * directly rather than copied.
+     */
+    public static final class Results {
+        private final long[] sums;
+        private final int[] starts;
+        private final int[] ends;
+
+        Results(int size) {
+            sums = new long[size];
+            starts = new int[size];
+            ends = new int[size];
+        }
+
+        public int size() { return sums.length; }
+        public long getSum(int k) { return sums[k]; }
+        public int getStart(int k) { return starts[k]; }
+        public int getEnd(int k) { return ends[k]; }
+
+        public long[] getSums() { return sums; }
+        public int[] getStarts() { return starts; }
+        public int[] getEnds() { return ends; }
+    }
+}
@@ -0,0 +1,221 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+import metrics.PerformanceTracker;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of results in front of another engine, for workloads that resubmit
+ * the same arrays. Two keying modes:
+ *
+ * - Content: {@link #findMaximumSubarray(int[])} hashes the length and about
+ *   {@value #HASH_SAMPLES} evenly spaced elements, then confirms a candidate with
+ *   Arrays.equals against a private copy taken on the miss. The sampled hash is
+ *   O(1) and the vectorized comparison is much cheaper than the branchy scan;
+ *   in-place edits to a resubmitted array are detected by the comparison.
+ * - Identity: {@link #findMaximumSubarray(int[], long)} keys on the array
+ *   reference plus a caller-maintained version stamp, with no hashing, copying or
+ *   comparison. The caller must bump the version after mutating the array.
+ *
+ * Entries are evicted least-recently-used first once either the entry count or
+ * the total cached length (the weight) exceeds its limit. Hits and misses are
+ * counted in the supplied {@link PerformanceTracker}. Safe to share between
+ * threads; the delegate scan runs outside the cache lock.
+ */
+public class CachingEngine implements MaximumSubarrayEngine {
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+    public static final long DEFAULT_MAX_WEIGHT = 1L << 24;
+    static final int HASH_SAMPLES = 64;
+
+    private final MaximumSubarrayEngine delegate;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final PerformanceTracker tracker;
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    public CachingEngine(MaximumSubarrayEngine delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT, new PerformanceTracker("CachingEngine"));
+    }
+
+    public CachingEngine(MaximumSubarrayEngine delegate, int maxEntries, long maxWeight, PerformanceTracker tracker) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate engine cannot be null");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Maximum entries must be positive");
+        }
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        if (tracker == null) {
+            throw new IllegalArgumentException("Performance tracker cannot be null");
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.tracker = tracker;
+    }
+
+    /**
+     * Looks the array up by content, scanning and caching it on a miss
+     */
+    @Override
+    public MaximumSubarrayResult findMaximumSubarray(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return delegate.findMaximumSubarray(nums);
+        }
+
+        ContentKey probe = new ContentKey(nums, sampledHash(nums));
+        MaximumSubarrayResult cached = lookup(probe);
+        if (cached != null) {
+            return cached;
+        }
+
+        MaximumSubarrayResult result = delegate.findMaximumSubarray(nums);
+        if (nums.length <= maxWeight) {
+            store(new ContentKey(nums.clone(), probe.hash), result, nums.length);
+        }
+        return result;
+    }
+
+    /**
+     * Looks the array up by reference and version, scanning and caching it on a miss.
+     * Only the reference is retained, so the caller must change the version whenever
+     * the contents change.
+     */
+    public MaximumSubarrayResult findMaximumSubarray(int[] nums, long version) {
+        if (nums == null || nums.length == 0) {
+            return delegate.findMaximumSubarray(nums);
+        }
+
+        IdentityKey key = new IdentityKey(nums, version);
+        MaximumSubarrayResult cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        MaximumSubarrayResult result = delegate.findMaximumSubarray(nums);
+        if (nums.length <= maxWeight) {
+            store(key, result, nums.length);
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getWeight() { return weight; }
+    public int getMaxEntries() { return maxEntries; }
+    public long getMaxWeight() { return maxWeight; }
+    public MaximumSubarrayEngine getDelegate() { return delegate; }
+    public PerformanceTracker getPerformanceTracker() { return tracker; }
+
+    private MaximumSubarrayResult lookup(Object key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            tracker.incrementCacheMiss();
+            return null;
+        }
+        tracker.incrementCacheHit();
+        return entry.result;
+    }
+
+    private synchronized void store(Object key, MaximumSubarrayResult result, int length) {
+        Entry previous = entries.put(key, new Entry(result, length));
+        weight += length - (previous == null ? 0 : previous.weight);
+
+        Iterator<Map.Entry<Object, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && eldest.hasNext()) {
+            weight -= eldest.next().getValue().weight;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Hash of the length and up to HASH_SAMPLES evenly spaced elements plus the last one
+     */
+    static int sampledHash(int[] nums) {
+        int n = nums.length;
+        int step = Math.max(1, n / HASH_SAMPLES);
+        int hash = n;
+        for (int i = 0; i < n; i += step) {
+            hash = 31 * hash + nums[i];
+        }
+        return 31 * hash + nums[n - 1];
+    }
+
+    private static final class Entry {
+        final MaximumSubarrayResult result;
+        final int weight;
+
+        Entry(MaximumSubarrayResult result, int weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Content key; stored keys own a copy, lookup probes wrap the caller's array
+     */
+    private static final class ContentKey {
+        final int[] data;
+        final int hash;
+
+        ContentKey(int[] data, int hash) {
+            this.data = data;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContentKey)) {
+                return false;
+            }
+            ContentKey other = (ContentKey) o;
+            return hash == other.hash && Arrays.equals(data, other.data);
+        }
+    }
+
+    private static final class IdentityKey {
+        final int[] array;
+        final long version;
+
+        IdentityKey(int[] array, long version) {
+            this.array = array;
+            this.version = version;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(array) + Long.hashCode(version);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof IdentityKey)) {
+                return false;
+            }
+            IdentityKey other = (IdentityKey) o;
+            return array == other.array && version == other.version;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package algorithms;
+
+/**
+ * Maximum subarray of an array treated as a ring, where a subarray may run past
+ * the last element and continue from the first one.
+ * One pass tracks the best subarray, the worst (minimum) subarray and the total;
+ * the best wrapped range is everything outside the minimum subarray, with sum
+ * total - min. The wrapped candidate is skipped when the minimum subarray is the
+ * whole array (it would leave nothing), and ties prefer the non-wrapped range.
+ * The input is read once in place, with no negated copy, and sums are long.
+ *
+ * Time Complexity: O(n)
+ * Space Complexity: O(1)
+ */
+public class CircularKadaneEngine {
+
+    public CircularSubarrayResult findMaximumSubarray(int[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        int n = nums.length;
+        long total = nums[0];
+
+        long maxEndingHere = nums[0];
+        long maxSoFar = nums[0];
+        int maxStart = 0;
+        int maxEnd = 0;
+        int maxTempStart = 0;
+
+        long minEndingHere = nums[0];
+        long minSoFar = nums[0];
+        int minStart = 0;
+        int minEnd = 0;
+        int minTempStart = 0;
+
+        for (int i = 1; i < n; i++) {
+            long value = nums[i];
+            total += value;
+
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                maxTempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                maxStart = maxTempStart;
+                maxEnd = i;
+            }
+
+            // Mirror image of the max scan
+            if (minEndingHere > 0) {
+                minEndingHere = value;
+                minTempStart = i;
+            } else {
+                minEndingHere += value;
+            }
+            if (minEndingHere < minSoFar) {
+                minSoFar = minEndingHere;
+                minStart = minTempStart;
+                minEnd = i;
+            }
+        }
+
+        boolean minIsWholeArray = minStart == 0 && minEnd == n - 1;
+        if (!minIsWholeArray && total - minSoFar > maxSoFar) {
+            int start = minEnd + 1 == n ? 0 : minEnd + 1;
+            int end = minStart == 0 ? n - 1 : minStart - 1;
+            return new CircularSubarrayResult(total - minSoFar, start, end, n);
+        }
+        return new CircularSubarrayResult(maxSoFar, maxStart, maxEnd, n);
+    }
+}
@@ -0,0 +1,28 @@
+package algorithms;
+
+/**
+ * Maximum subarray of a circular array. A wrapped range runs from startIndex to
+ * the end of the array and continues from index 0 to endIndex, so startIndex > endIndex.
+ */
+public class CircularSubarrayResult extends LongMaximumSubarrayResult {
+    private final int arrayLength;
+
+    public CircularSubarrayResult(long maxSum, long startIndex, long endIndex, int arrayLength) {
+        super(maxSum, startIndex, endIndex);
+        this.arrayLength = arrayLength;
+    }
+
+    public int getArrayLength() { return arrayLength; }
+
+    /**
+     * Whether the range crosses the end of the array
+     */
+    public boolean isWrapped() {
+        return getStartIndex() > getEndIndex();
+    }
+
+    @Override
+    public long getLength() {
+        return isWrapped() ? arrayLength - getStartIndex() + getEndIndex() + 1 : super.getLength();
+    }
+}
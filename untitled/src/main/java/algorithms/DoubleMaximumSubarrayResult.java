@@ -0,0 +1,33 @@
+package algorithms;
+
+/**
+ * Maximum subarray result with a double sum, for floating-point series
+ */
+public class DoubleMaximumSubarrayResult {
+    private final double maxSum;
+    private final long startIndex;
+    private final long endIndex;
+
+    public DoubleMaximumSubarrayResult(double maxSum, long startIndex, long endIndex) {
+        this.maxSum = maxSum;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+    }
+
+    // Getters
+    public double getMaxSum() { return maxSum; }
+    public long getStartIndex() { return startIndex; }
+    public long getEndIndex() { return endIndex; }
+
+    /**
+     * Number of elements in the subarray
+     */
+    public long getLength() {
+        return endIndex - startIndex + 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Max Sum: %f, Range: [%d, %d]", maxSum, startIndex, endIndex);
+    }
+}
@@ -0,0 +1,223 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Uninstrumented Kadane scan for production use.
+ * The inner loop touches only the input array and local variables;
+ * wrap it in an {@link InstrumentedEngine} when metrics are needed.
+ * Heap and direct buffers are read in place through absolute gets, with
+ * no intermediate array.
+ *
+ * Time Complexity: O(n)
+ * Space Complexity: O(1)
+ */
+public class FastKadaneEngine implements MaximumSubarrayEngine {
+
+    @Override
+    public MaximumSubarrayResult findMaximumSubarray(int[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        int maxEndingHere = nums[0];
+        int maxSoFar = nums[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int i = 1; i < nums.length; i++) {
+            int value = nums[i];
+
+            // A negative running sum can only hurt, so restart at i
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                tempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+
+        return new MaximumSubarrayResult(maxSoFar, start, end);
+    }
+
+    /**
+     * Writes the result into a caller-owned holder instead of allocating one
+     */
+    public void findMaximumSubarray(int[] nums, MutableSubarrayResult out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Result holder cannot be null");
+        }
+        long packed = scan(nums, out.values, MutableSubarrayResult.SUM);
+        out.values[MutableSubarrayResult.START] = packedStart(packed);
+        out.values[MutableSubarrayResult.END] = packedEnd(packed);
+    }
+
+    /**
+     * Writes sum, start and end into out[3 * slot], out[3 * slot + 1] and
+     * out[3 * slot + 2], so a batch can collect results in one flat array
+     */
+    public void findMaximumSubarray(int[] nums, long[] out, int slot) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output array cannot be null");
+        }
+        // Checked before multiplying so a huge slot cannot overflow into a valid offset
+        if (slot < 0 || slot >= out.length / 3) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of bounds for length " + out.length);
+        }
+        int offset = 3 * slot;
+        long packed = scan(nums, out, offset);
+        out[offset + 1] = packedStart(packed);
+        out[offset + 2] = packedEnd(packed);
+    }
+
+    /**
+     * Start and end of the maximum subarray packed as (start << 32) | end;
+     * unpack with {@link #packedStart} and {@link #packedEnd}
+     */
+    public long findMaximumSubarrayPacked(int[] nums) {
+        return scan(nums, null, 0);
+    }
+
+    public static int packedStart(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    public static int packedEnd(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Shared loop of the allocation-free variants: returns the packed indices and,
+     * when sumOut is non-null, stores the sum at sumOut[sumSlot]
+     */
+    private static long scan(int[] nums, long[] sumOut, int sumSlot) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        int maxEndingHere = nums[0];
+        int maxSoFar = nums[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int i = 1; i < nums.length; i++) {
+            int value = nums[i];
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                tempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+
+        if (sumOut != null) {
+            sumOut[sumSlot] = maxSoFar;
+        }
+        return ((long) start << 32) | end;
+    }
+
+    /**
+     * Scans the elements between the buffer's position and limit without moving them.
+     * Indices in the result are relative to the position.
+     */
+    public MaximumSubarrayResult findMaximumSubarray(IntBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Input buffer cannot be null");
+        }
+        int offset = buffer.position();
+        int length = buffer.remaining();
+        if (length == 0) {
+            throw new IllegalArgumentException("Input buffer cannot be empty");
+        }
+
+        int maxEndingHere = buffer.get(offset);
+        int maxSoFar = maxEndingHere;
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int i = 1; i < length; i++) {
+            int value = buffer.get(offset + i);
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                tempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+
+        return new MaximumSubarrayResult(maxSoFar, start, end);
+    }
+
+    /**
+     * Scans the bytes between the buffer's position and limit as ints in the buffer's
+     * byte order, without moving the position. Indices are int element offsets from
+     * the position.
+     *
+     * @throws IllegalArgumentException if the remaining bytes are not a whole number of ints
+     */
+    public MaximumSubarrayResult findMaximumSubarray(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Input buffer cannot be null");
+        }
+        int offset = buffer.position();
+        int remaining = buffer.remaining();
+        if (remaining == 0) {
+            throw new IllegalArgumentException("Input buffer cannot be empty");
+        }
+        if (remaining % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Remaining bytes must be a multiple of 4: " + remaining);
+        }
+        int length = remaining / Integer.BYTES;
+
+        int maxEndingHere = buffer.getInt(offset);
+        int maxSoFar = maxEndingHere;
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int i = 1; i < length; i++) {
+            int value = buffer.getInt(offset + i * Integer.BYTES);
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                tempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+
+        return new MaximumSubarrayResult(maxSoFar, start, end);
+    }
+}
@@ -0,0 +1,49 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+import metrics.PerformanceTracker;
+
+/**
+ * Decorator that adds {@link PerformanceTracker} accounting around another engine.
+ * Timing is measured around the delegate call; operation counts are charged
+ * from the single-pass cost model (one access per element, two decisions per
+ * element after the first) so the delegate's loop stays uninstrumented.
+ */
+public class InstrumentedEngine implements MaximumSubarrayEngine {
+    private final MaximumSubarrayEngine delegate;
+    private final PerformanceTracker tracker;
+
+    public InstrumentedEngine(MaximumSubarrayEngine delegate, PerformanceTracker tracker) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate engine cannot be null");
+        }
+        if (tracker == null) {
+            throw new IllegalArgumentException("Performance tracker cannot be null");
+        }
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public MaximumSubarrayResult findMaximumSubarray(int[] nums) {
+        int n = nums != null ? nums.length : 0;
+
+        tracker.reset();
+        tracker.setInputSize(n);
+        tracker.setInputType("standard");
+        tracker.startTimer();
+
+        MaximumSubarrayResult result = delegate.findMaximumSubarray(nums);
+
+        tracker.stopTimer();
+        tracker.incrementMemoryAllocation(); // Result object
+        tracker.incrementArrayAccesses(n);
+        tracker.incrementComparisons(2 * (n - 1));
+        tracker.recordRun();
+        return result;
+    }
+
+    public MaximumSubarrayEngine getDelegate() {
+        return delegate;
+    }
+}
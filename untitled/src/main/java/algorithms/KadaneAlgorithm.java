@@ -2,18 +2,24 @@ package algorithms;
 
 import metrics.PerformanceTracker;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Implementation of Kadane's Algorithm for finding the maximum subarray sum
  * with position tracking and comprehensive performance metrics.
  *
+ * An instance may be shared between threads: the tracker keeps each thread's
+ * counters and recorded runs separately and merges them when read.
+ *
  * Time Complexity: O(n)
  * Space Complexity: O(1)
  *
  * @author Student B
  */
-public class KadaneAlgorithm {
+public class KadaneAlgorithm implements MaximumSubarrayEngine {
     private final PerformanceTracker tracker;
+    private final MaximumSubarrayEngine engine;
+    private final MaximumSubarrayEngine batchEngine;   // Untracked scan safe to share across threads
 
     /**
      * Result class to store maximum subarray information
@@ -50,14 +56,47 @@ public class KadaneAlgorithm {
         }
     }
 
+    /**
+     * Creates an instance that runs the built-in scan with per-operation tracking
+     */
     public KadaneAlgorithm() {
         this.tracker = new PerformanceTracker("KadaneAlgorithm");
+        this.engine = this::findMaximumSubarrayInstrumented;
+        this.batchEngine = new FastKadaneEngine();
+    }
+
+    /**
+     * Creates an instance backed by the given engine, without performance tracking
+     */
+    public KadaneAlgorithm(MaximumSubarrayEngine engine) {
+        this(engine, false);
+    }
+
+    /**
+     * Creates an instance backed by the given engine; when trackPerformance is set,
+     * each call is timed and recorded through this instance's tracker
+     */
+    public KadaneAlgorithm(MaximumSubarrayEngine engine, boolean trackPerformance) {
+        if (engine == null) {
+            throw new IllegalArgumentException("Engine cannot be null");
+        }
+        this.tracker = new PerformanceTracker("KadaneAlgorithm");
+        this.engine = trackPerformance ? new InstrumentedEngine(engine, tracker) : engine;
+        this.batchEngine = engine;
     }
 
     /**
-     * Finds the maximum sum of a contiguous subarray using Kadane's Algorithm
+     * Finds the maximum sum of a contiguous subarray using the configured engine
      */
+    @Override
     public MaximumSubarrayResult findMaximumSubarray(int[] nums) {
+        return engine.findMaximumSubarray(nums);
+    }
+
+    /**
+     * Built-in Kadane scan that counts every comparison and array access
+     */
+    private MaximumSubarrayResult findMaximumSubarrayInstrumented(int[] nums) {
         tracker.reset();
         tracker.setInputSize(nums != null ? nums.length : 0);
         tracker.setInputType("standard");
@@ -88,21 +127,22 @@ public class KadaneAlgorithm {
         int end = 0;
         int tempStart = 0;
 
-        tracker.incrementArrayAccesses(2); // Two element accesses
-        tracker.incrementComparison(); // Initial setup comparison
+        // Counted in locals and flushed once, so the timed loop makes no tracker calls
+        int arrayAccesses = 2; // Two element accesses
+        int comparisons = 1; // Initial setup comparison
 
         for (int i = 1; i < nums.length; i++) {
-            tracker.incrementComparison(); // Loop condition check
-            tracker.incrementArrayAccess(); // Access nums[i]
+            comparisons++; // Loop condition check
+            arrayAccesses++; // Access nums[i]
 
             // Decide whether to extend previous subarray or start new one
             if (nums[i] > maxEndingHere + nums[i]) {
                 maxEndingHere = nums[i];
                 tempStart = i;
-                tracker.incrementComparison();
+                comparisons++;
             } else {
                 maxEndingHere = maxEndingHere + nums[i];
-                tracker.incrementComparison();
+                comparisons++;
             }
 
             // Update maximum sum found so far
@@ -110,13 +150,15 @@ public class KadaneAlgorithm {
                 maxSoFar = maxEndingHere;
                 start = tempStart;
                 end = i;
-                tracker.incrementComparison();
+                comparisons++;
             }
 
-            tracker.incrementComparison(); // Final if comparison
+            comparisons++; // Final if comparison
         }
 
         tracker.stopTimer();
+        tracker.incrementArrayAccesses(arrayAccesses);
+        tracker.incrementComparisons(comparisons);
         tracker.recordRun();
         return new MaximumSubarrayResult(maxSoFar, start, end);
     }
@@ -149,16 +191,17 @@ public class KadaneAlgorithm {
         int maxEndingHere = nums[0];
         int start = 0, end = 0, tempStart = 0;
 
-        tracker.incrementArrayAccesses(2);
-        tracker.incrementComparison();
+        // Counted in locals and flushed once, so the timed loop makes no tracker calls
+        int arrayAccesses = 2;
+        int comparisons = 1;
 
         boolean allNegative = nums[0] < 0;
         int maxSingleElement = nums[0];
         int maxSingleIndex = 0;
 
         for (int i = 1; i < nums.length; i++) {
-            tracker.incrementComparison();
-            tracker.incrementArrayAccess();
+            comparisons++;
+            arrayAccesses++;
 
             // Check if all elements are negative
             if (nums[i] >= 0) allNegative = false;
@@ -167,7 +210,7 @@ public class KadaneAlgorithm {
             if (nums[i] > maxSingleElement) {
                 maxSingleElement = nums[i];
                 maxSingleIndex = i;
-                tracker.incrementComparison();
+                comparisons++;
             }
 
             // Standard Kadane's algorithm logic
@@ -184,18 +227,19 @@ public class KadaneAlgorithm {
                 end = i;
             }
 
-            tracker.incrementComparisons(2);
+            comparisons += 2;
         }
 
+        tracker.stopTimer();
+        tracker.incrementArrayAccesses(arrayAccesses);
+        tracker.incrementComparisons(comparisons);
+        tracker.recordRun();
+
         // If all numbers are negative, return the maximum single element
         if (allNegative && maxSoFar < 0) {
-            tracker.stopTimer();
-            tracker.recordRun();
             return new MaximumSubarrayResult(maxSingleElement, maxSingleIndex, maxSingleIndex);
         }
 
-        tracker.stopTimer();
-        tracker.recordRun();
         return new MaximumSubarrayResult(maxSoFar, start, end);
     }
 
@@ -213,6 +257,27 @@ public class KadaneAlgorithm {
         }
     }
 
+    /**
+     * Parallel counterpart of runBatchTests: scans the arrays on the pool, largest
+     * first, and merges one run per array into this instance's tracker. The arrays
+     * are scanned by the untracked engine (FastKadaneEngine for the built-in scan);
+     * each worker records the same counters as InstrumentedEngine in its own tracker,
+     * and those are merged here once the batch completes.
+     */
+    public SubarrayResults runBatchTestsParallel(int[][] testArrays, String[] inputTypes, ForkJoinPool pool) {
+        if (testArrays.length != inputTypes.length) {
+            throw new IllegalArgumentException("Test arrays and input types must have same length");
+        }
+        return new BatchKadaneEngine(pool, batchEngine).run(testArrays, inputTypes, tracker);
+    }
+
+    /**
+     * Returns the engine used by findMaximumSubarray
+     */
+    public MaximumSubarrayEngine getEngine() {
+        return engine;
+    }
+
     /**
      * Returns the performance metrics for analysis
      */
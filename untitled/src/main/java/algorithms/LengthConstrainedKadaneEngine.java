@@ -0,0 +1,304 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Maximum subarray whose length lies in [minLength, maxLength].
+ * With prefix sums P, the best subarray ending at index e - 1 starts at the index i
+ * in [e - maxLength, e - minLength] with the smallest P[i]. A monotone deque of
+ * candidate starts (increasing P, earlier index first on ties) gives that minimum
+ * in amortized O(1), so the scan is linear for any bounds.
+ *
+ * The sequential scan keeps running prefix sums and a ring-buffer deque of at most
+ * maxLength - minLength + 2 entries, with no O(n) buffer. The parallel variant
+ * materializes P once, then scans chunks of end positions independently:
+ * - maxLength >= n: no start ever leaves the window, so the deque reduces to a running
+ *   minimum of P. Chunk minimums are computed in parallel and exclusive-scanned, and
+ *   each chunk starts from the minimum of everything before it.
+ * - Otherwise each chunk re-seeds its deque from the maxLength - minLength starts
+ *   before it. That window is capped at the chunk size; wider windows would rescan
+ *   more than each chunk scans, so those inputs run sequentially.
+ *
+ * Ties are broken like the unconstrained scan: smaller end, then smaller start.
+ *
+ * Time Complexity: O(n) sequential, O(n / p) parallel
+ * Space Complexity: O(min(n, maxLength - minLength)) sequential, O(n) parallel
+ */
+public class LengthConstrainedKadaneEngine {
+    public static final int DEFAULT_THRESHOLD = 1 << 20;
+
+    private final int minLength;
+    private final int maxLength;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Sequential engine; use {@link Integer#MAX_VALUE} as maxLength for no upper bound
+     */
+    public LengthConstrainedKadaneEngine(int minLength, int maxLength) {
+        this(minLength, maxLength, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Engine that splits inputs longer than threshold across the pool
+     */
+    public LengthConstrainedKadaneEngine(int minLength, int maxLength, ForkJoinPool pool, int threshold) {
+        if (minLength < 1) {
+            throw new IllegalArgumentException("Minimum length must be positive");
+        }
+        if (maxLength < minLength) {
+            throw new IllegalArgumentException("Maximum length must not be below minimum length");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        if (pool == null && threshold != Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public LongMaximumSubarrayResult findMaximumSubarray(int[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length < minLength) {
+            throw new IllegalArgumentException(
+                    "Input array is shorter than the minimum length: " + nums.length + " < " + minLength);
+        }
+
+        if (pool == null || nums.length <= threshold
+                || (maxLength < nums.length && maxLength - minLength > threshold)) {
+            return scanSequential(nums);
+        }
+        return scanParallel(nums);
+    }
+
+    public int getMinLength() { return minLength; }
+    public int getMaxLength() { return maxLength; }
+
+    private LongMaximumSubarrayResult scanSequential(int[] nums) {
+        int n = nums.length;
+        StartDeque deque = new StartDeque((int) Math.min((long) maxLength - minLength + 2, n - minLength + 2));
+
+        long prefixEnd = 0;   // P[e]
+        long prefixLag = 0;   // P[e - minLength]
+        for (int i = 0; i < minLength - 1; i++) {
+            prefixEnd += nums[i];
+        }
+
+        long bestSum = Long.MIN_VALUE;
+        int bestStart = 0;
+        int bestEnd = 0;
+        for (int e = minLength; e <= n; e++) {
+            prefixEnd += nums[e - 1];
+            int newStart = e - minLength;
+            deque.push(newStart, prefixLag);
+            prefixLag += nums[newStart];
+            deque.dropBefore((long) e - maxLength);
+
+            long sum = prefixEnd - deque.frontValue();
+            if (sum > bestSum) {
+                bestSum = sum;
+                bestStart = deque.frontIndex();
+                bestEnd = e - 1;
+            }
+        }
+        return new LongMaximumSubarrayResult(bestSum, bestStart, bestEnd);
+    }
+
+    private LongMaximumSubarrayResult scanParallel(int[] nums) {
+        long[] prefix = new long[nums.length + 1];
+        for (int i = 0; i < nums.length; i++) {
+            prefix[i + 1] = nums[i];
+        }
+        // parallelPrefix forks into the pool of the task that calls it
+        pool.submit(() -> Arrays.parallelPrefix(prefix, Long::sum)).join();
+
+        if (maxLength >= nums.length) {
+            return new UnboundedSearch(prefix, minLength, threshold).search(pool);
+        }
+        return pool.invoke(new ChunkTask(prefix, minLength, maxLength, minLength, nums.length + 1, threshold));
+    }
+
+    /**
+     * Parallel search when no start ever leaves the window, so the best start for
+     * end e - 1 is the earliest minimum of P[0..e - minLength]
+     */
+    static final class UnboundedSearch extends RunningMinimumScan {
+        final long[] prefix;
+
+        UnboundedSearch(long[] prefix, int minLength, int chunkSize) {
+            super(prefix.length, minLength, chunkSize);
+            this.prefix = prefix;
+        }
+
+        LongMaximumSubarrayResult search(ForkJoinPool pool) {
+            run(pool);
+            return new LongMaximumSubarrayResult(prefix[bestEnd + 1] - prefix[bestStart], bestStart, bestEnd);
+        }
+
+        @Override
+        boolean isBelow(int i, int j) {
+            return prefix[i] < prefix[j];
+        }
+
+        @Override
+        boolean isWider(int start, int end, int otherStart, int otherEnd) {
+            return prefix[end + 1] - prefix[start] > prefix[otherEnd + 1] - prefix[otherStart];
+        }
+
+        @Override
+        void minimumOfChunk(int c) {
+            int to = chunkTo(c);
+            long min = Long.MAX_VALUE;
+            int minIndex = chunkFrom(c);
+            for (int i = minIndex; i < to; i++) {
+                if (prefix[i] < min) {
+                    min = prefix[i];
+                    minIndex = i;
+                }
+            }
+            chunkMinIndex[c] = minIndex;
+        }
+
+        @Override
+        void scanEnds(int c) {
+            int from = chunkFrom(c);
+            int to = chunkTo(c);
+            int runningIndex = chunkMinIndex[c];
+            long running = runningIndex < 0 ? Long.MAX_VALUE : prefix[runningIndex];
+            long best = Long.MIN_VALUE;
+            int start = from;
+            int end = from + minLength - 1;
+
+            for (int i = from; i < to; i++) {
+                if (prefix[i] < running) {
+                    running = prefix[i];
+                    runningIndex = i;
+                }
+                int e = i + minLength;
+                long sum = prefix[e] - running;
+                if (sum > best) {
+                    best = sum;
+                    start = runningIndex;
+                    end = e - 1;
+                }
+            }
+            chunkBestStart[c] = start;
+            chunkBestEnd[c] = end;
+        }
+    }
+
+    /**
+     * Best subarray ending at e - 1 for prefix ends e in [from, to)
+     */
+    static final class ChunkTask extends RecursiveTask<LongMaximumSubarrayResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] prefix;
+        private final int minLength;
+        private final int maxLength;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ChunkTask(long[] prefix, int minLength, int maxLength, int from, int to, int threshold) {
+            this.prefix = prefix;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected LongMaximumSubarrayResult compute() {
+            if (to - from <= threshold) {
+                return scan();
+            }
+
+            int mid = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(prefix, minLength, maxLength, from, mid, threshold);
+            ChunkTask right = new ChunkTask(prefix, minLength, maxLength, mid, to, threshold);
+            left.fork();
+            LongMaximumSubarrayResult rightResult = right.compute();
+            LongMaximumSubarrayResult leftResult = left.join();
+            // Earlier ends win ties
+            return rightResult.getMaxSum() > leftResult.getMaxSum() ? rightResult : leftResult;
+        }
+
+        private LongMaximumSubarrayResult scan() {
+            int window = (int) Math.min((long) maxLength - minLength + 2, prefix.length);
+            StartDeque deque = new StartDeque(window);
+
+            // Seed with the starts that earlier ends would already have pushed
+            int seedFrom = (int) Math.max(0, (long) from - maxLength);
+            for (int i = seedFrom; i < from - minLength; i++) {
+                deque.push(i, prefix[i]);
+            }
+
+            long bestSum = Long.MIN_VALUE;
+            int bestStart = 0;
+            int bestEnd = 0;
+            for (int e = from; e < to; e++) {
+                int newStart = e - minLength;
+                deque.push(newStart, prefix[newStart]);
+                deque.dropBefore((long) e - maxLength);
+
+                long sum = prefix[e] - deque.frontValue();
+                if (sum > bestSum) {
+                    bestSum = sum;
+                    bestStart = deque.frontIndex();
+                    bestEnd = e - 1;
+                }
+            }
+            return new LongMaximumSubarrayResult(bestSum, bestStart, bestEnd);
+        }
+    }
+
+    /**
+     * Monotone deque of (start index, prefix value) in fixed-size primitive rings.
+     * Values increase from front to back; an equal value keeps the earlier index.
+     */
+    static final class StartDeque {
+        private final int[] indices;
+        private final long[] values;
+        private int head;
+        private int size;
+
+        StartDeque(int capacity) {
+            indices = new int[capacity];
+            values = new long[capacity];
+        }
+
+        void push(int index, long value) {
+            while (size > 0 && values[slot(size - 1)] > value) {
+                size--;
+            }
+            int slot = slot(size++);
+            indices[slot] = index;
+            values[slot] = value;
+        }
+
+        void dropBefore(long minIndex) {
+            while (size > 0 && indices[head] < minIndex) {
+                head = head + 1 == indices.length ? 0 : head + 1;
+                size--;
+            }
+        }
+
+        int frontIndex() { return indices[head]; }
+        long frontValue() { return values[head]; }
+
+        private int slot(int offset) {
+            int slot = head + offset;
+            return slot >= indices.length ? slot - indices.length : slot;
+        }
+    }
+}
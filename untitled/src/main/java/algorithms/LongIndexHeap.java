@@ -0,0 +1,98 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Binary max-heap of (priority, tie, payload) triples in parallel primitive arrays.
+ * Higher priority comes first; equal priorities come out in ascending tie order.
+ * The payload is an int handle into the caller's own arrays, so nothing is boxed.
+ */
+final class LongIndexHeap {
+    private long[] priorities;
+    private long[] ties;
+    private int[] payloads;
+    private int size;
+
+    LongIndexHeap(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        priorities = new long[capacity];
+        ties = new long[capacity];
+        payloads = new int[capacity];
+    }
+
+    int size() { return size; }
+    boolean isEmpty() { return size == 0; }
+
+    long topPriority() { return priorities[0]; }
+    long topTie() { return ties[0]; }
+    int topPayload() { return payloads[0]; }
+
+    void clear() {
+        size = 0;
+    }
+
+    void push(long priority, long tie, int payload) {
+        if (size == priorities.length) {
+            int capacity = size + (size >> 1) + 1;
+            priorities = Arrays.copyOf(priorities, capacity);
+            ties = Arrays.copyOf(ties, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+        }
+
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(priority, tie, priorities[parent], ties[parent])) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        set(i, priority, tie, payload);
+    }
+
+    /**
+     * Removes the top entry; read it with the top accessors first
+     */
+    void pop() {
+        int last = --size;
+        if (last == 0) {
+            return;
+        }
+        long priority = priorities[last];
+        long tie = ties[last];
+        int payload = payloads[last];
+
+        int i = 0;
+        int half = last >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < last && before(priorities[right], ties[right], priorities[child], ties[child])) {
+                child = right;
+            }
+            if (!before(priorities[child], ties[child], priority, tie)) {
+                break;
+            }
+            move(child, i);
+            i = child;
+        }
+        set(i, priority, tie, payload);
+    }
+
+    private static boolean before(long priority, long tie, long otherPriority, long otherTie) {
+        return priority > otherPriority || (priority == otherPriority && tie < otherTie);
+    }
+
+    private void move(int from, int to) {
+        priorities[to] = priorities[from];
+        ties[to] = ties[from];
+        payloads[to] = payloads[from];
+    }
+
+    private void set(int i, long priority, long tie, int payload) {
+        priorities[i] = priority;
+        ties[i] = tie;
+        payloads[i] = payload;
+    }
+}
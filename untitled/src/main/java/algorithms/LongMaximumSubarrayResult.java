@@ -0,0 +1,35 @@
+package algorithms;
+
+/**
+ * Maximum subarray result with a long sum and long indices.
+ * Used by engines whose sums can exceed the int range and by inputs
+ * (streams, files) whose positions can exceed the int range.
+ */
+public class LongMaximumSubarrayResult {
+    private final long maxSum;
+    private final long startIndex;
+    private final long endIndex;
+
+    public LongMaximumSubarrayResult(long maxSum, long startIndex, long endIndex) {
+        this.maxSum = maxSum;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+    }
+
+    // Getters
+    public long getMaxSum() { return maxSum; }
+    public long getStartIndex() { return startIndex; }
+    public long getEndIndex() { return endIndex; }
+
+    /**
+     * Number of elements in the subarray
+     */
+    public long getLength() {
+        return endIndex - startIndex + 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Max Sum: %d, Range: [%d, %d]", maxSum, startIndex, endIndex);
+    }
+}
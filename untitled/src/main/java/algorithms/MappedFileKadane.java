@@ -0,0 +1,173 @@
+package algorithms;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Maximum subarray over a raw little-endian int file that may be far larger than the heap.
+ * The file is mapped with {@link FileChannel#map} in windows well under 2 GB; each
+ * window is scanned in place through an {@link IntBuffer} view, windows are processed
+ * in parallel on a ForkJoinPool, and their {@link SegmentSummary}s are merged.
+ * Indices in the result are long element offsets into the file.
+ *
+ * Time Complexity: O(n / p) with p workers
+ * Space Complexity: O(log w) summaries for w windows; no heap copy of the data
+ */
+public class MappedFileKadane {
+    public static final long DEFAULT_WINDOW_BYTES = 64L << 20;
+    public static final long MAX_WINDOW_BYTES = (Integer.MAX_VALUE / Integer.BYTES) * (long) Integer.BYTES;
+
+    private final ForkJoinPool pool;
+    private final long windowBytes;
+
+    public MappedFileKadane() {
+        this(ForkJoinPool.commonPool(), DEFAULT_WINDOW_BYTES);
+    }
+
+    public MappedFileKadane(ForkJoinPool pool) {
+        this(pool, DEFAULT_WINDOW_BYTES);
+    }
+
+    public MappedFileKadane(ForkJoinPool pool, long windowBytes) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (windowBytes < Integer.BYTES || windowBytes > MAX_WINDOW_BYTES) {
+            throw new IllegalArgumentException("Window size must be between 4 bytes and " + MAX_WINDOW_BYTES + " bytes");
+        }
+        this.pool = pool;
+        // Windows hold whole ints so no element straddles two mappings
+        this.windowBytes = windowBytes - windowBytes % Integer.BYTES;
+    }
+
+    /**
+     * Finds the maximum subarray of the ints stored in the file
+     *
+     * @throws IllegalArgumentException if the file is empty or not a whole number of ints
+     */
+    public LongMaximumSubarrayResult findMaximumSubarray(Path file) throws IOException {
+        return summarize(file).toLongResult();
+    }
+
+    /**
+     * Computes the segment summary of the whole file
+     */
+    public SegmentSummary summarize(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Input file cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                throw new IllegalArgumentException("Input file cannot be empty");
+            }
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("Input file size must be a multiple of 4 bytes: " + size);
+            }
+
+            long elementCount = size / Integer.BYTES;
+            long windowInts = windowBytes / Integer.BYTES;
+            long windowCount = (elementCount + windowInts - 1) / windowInts;
+            try {
+                return pool.invoke(new WindowTask(channel, 0, windowCount, windowInts, elementCount));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Sum of the ints at element offsets [from, to], both ends inclusive, read through
+     * mapped windows on the calling thread. Costs O(to - from) and no heap copy, so a
+     * single reported range can be checked on files larger than the heap.
+     */
+    public long rangeSum(Path file, long from, long to) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Input file cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long elementCount = channel.size() / Integer.BYTES;
+            if (from < 0 || to >= elementCount) {
+                throw new IndexOutOfBoundsException(
+                        "Range [" + from + ", " + to + "] out of bounds for length " + elementCount);
+            }
+            if (from > to) {
+                throw new IllegalArgumentException("Range start must not exceed range end: " + from + " > " + to);
+            }
+
+            long windowInts = windowBytes / Integer.BYTES;
+            long sum = 0;
+            for (long first = from; first <= to; first += windowInts) {
+                int count = (int) Math.min(windowInts, to - first + 1);
+                IntBuffer ints = channel.map(FileChannel.MapMode.READ_ONLY,
+                        first * Integer.BYTES, (long) count * Integer.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                for (int i = 0; i < count; i++) {
+                    sum += ints.get(i);
+                }
+            }
+            return sum;
+        }
+    }
+
+    public ForkJoinPool getPool() { return pool; }
+    public long getWindowBytes() { return windowBytes; }
+
+    /**
+     * Recursively splits the window range; each leaf maps and scans one window
+     */
+    private static final class WindowTask extends RecursiveTask<SegmentSummary> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long fromWindow;
+        private final long toWindow;
+        private final long windowInts;
+        private final long elementCount;
+
+        WindowTask(FileChannel channel, long fromWindow, long toWindow, long windowInts, long elementCount) {
+            this.channel = channel;
+            this.fromWindow = fromWindow;
+            this.toWindow = toWindow;
+            this.windowInts = windowInts;
+            this.elementCount = elementCount;
+        }
+
+        @Override
+        protected SegmentSummary compute() {
+            if (toWindow - fromWindow == 1) {
+                return scanWindow(fromWindow);
+            }
+
+            long mid = (fromWindow + toWindow) >>> 1;
+            WindowTask left = new WindowTask(channel, fromWindow, mid, windowInts, elementCount);
+            WindowTask right = new WindowTask(channel, mid, toWindow, windowInts, elementCount);
+            left.fork();
+            SegmentSummary rightSummary = right.compute();
+            return SegmentSummary.combine(left.join(), rightSummary);
+        }
+
+        private SegmentSummary scanWindow(long window) {
+            long firstElement = window * windowInts;
+            int count = (int) Math.min(windowInts, elementCount - firstElement);
+            try {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                        firstElement * Integer.BYTES, (long) count * Integer.BYTES);
+                IntBuffer ints = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                return SegmentSummary.of(ints, 0, count, firstElement);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to map window " + window, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Subarray of at least minLength elements with the largest average.
+ * Binary search on the answer x: some subarray of length >= minLength has
+ * average >= x exactly when, with Q[i] = P[i] - x * i over prefix sums P,
+ * Q[e] - min(Q[0..e - minLength]) >= 0 for some end e. Each check is one O(n)
+ * pass over a prefix buffer that is filled once and reused by every iteration,
+ * so the search itself does not allocate.
+ *
+ * Large inputs run the check in two parallel phases over chunks of start
+ * positions: chunk minimums of Q, an exclusive scan of those minimums, then each
+ * chunk scans its ends starting from the minimum of everything before it.
+ *
+ * The reported segment is the best one seen by any feasible check, with its
+ * exact average; it is within the search tolerance of the optimum. Q is
+ * evaluated in double, so precision degrades once prefix sums pass 2^53.
+ *
+ * Time Complexity: O(n * log((max - min) / tolerance) / p)
+ * Space Complexity: O(n) prefix buffer + O(p) chunk state
+ */
+public class MaxAverageSubarrayEngine {
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+    public static final int DEFAULT_THRESHOLD = 1 << 18;
+    static final int MAX_ITERATIONS = 200;
+
+    private final int minLength;
+    private final double tolerance;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public MaxAverageSubarrayEngine(int minLength) {
+        this(minLength, DEFAULT_TOLERANCE, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public MaxAverageSubarrayEngine(int minLength, double tolerance, ForkJoinPool pool, int threshold) {
+        if (minLength < 1) {
+            throw new IllegalArgumentException("Minimum length must be positive");
+        }
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("Tolerance must be positive");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.minLength = minLength;
+        this.tolerance = tolerance;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public Result findMaximumAverage(int[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length < minLength) {
+            throw new IllegalArgumentException(
+                    "Input array is shorter than the minimum length: " + nums.length + " < " + minLength);
+        }
+
+        int min = nums[0];
+        int max = nums[0];
+        long[] prefix = new long[nums.length + 1];
+        for (int i = 0; i < nums.length; i++) {
+            prefix[i + 1] = prefix[i] + nums[i];
+            min = Math.min(min, nums[i]);
+            max = Math.max(max, nums[i]);
+        }
+
+        Search search = new Search(prefix, minLength, nums.length <= threshold ? Integer.MAX_VALUE : threshold);
+
+        // Every segment averages at least the minimum element, so this check always succeeds
+        search.check(min, pool);
+        long bestSum = search.segmentSum();
+        int bestStart = search.bestStart;
+        int bestEnd = search.bestEnd;
+
+        double lo = min;
+        double hi = max;
+        for (int iteration = 0; iteration < MAX_ITERATIONS && hi - lo > tolerance; iteration++) {
+            double mid = lo + (hi - lo) / 2;
+            if (search.check(mid, pool)) {
+                lo = mid;
+                long sum = search.segmentSum();
+                if ((double) sum / (search.bestEnd - search.bestStart + 1)
+                        > (double) bestSum / (bestEnd - bestStart + 1)) {
+                    bestSum = sum;
+                    bestStart = search.bestStart;
+                    bestEnd = search.bestEnd;
+                }
+            } else {
+                hi = mid;
+            }
+        }
+        return new Result(bestSum, bestStart, bestEnd);
+    }
+
+    public int getMinLength() { return minLength; }
+    public double getTolerance() { return tolerance; }
+
+    /**
+     * Feasibility checks over one prefix buffer, each a running-minimum scan of Q
+     */
+    static final class Search extends RunningMinimumScan {
+        final long[] prefix;
+        double x;
+
+        Search(long[] prefix, int minLength, int chunkSize) {
+            super(prefix.length, minLength, chunkSize);
+            this.prefix = prefix;
+        }
+
+        /**
+         * Whether some segment of length >= minLength averages at least x; on success
+         * bestStart and bestEnd hold the segment with the largest Q margin
+         */
+        boolean check(double x, ForkJoinPool pool) {
+            this.x = x;
+            run(pool);
+            return q(bestEnd + 1) - q(bestStart) >= 0;
+        }
+
+        long segmentSum() {
+            return prefix[bestEnd + 1] - prefix[bestStart];
+        }
+
+        private double q(int i) {
+            return prefix[i] - x * i;
+        }
+
+        @Override
+        boolean isBelow(int i, int j) {
+            return q(i) < q(j);
+        }
+
+        @Override
+        boolean isWider(int start, int end, int otherStart, int otherEnd) {
+            return q(end + 1) - q(start) > q(otherEnd + 1) - q(otherStart);
+        }
+
+        @Override
+        void minimumOfChunk(int c) {
+            int to = chunkTo(c);
+            double min = Double.POSITIVE_INFINITY;
+            int minIndex = chunkFrom(c);
+            for (int i = minIndex; i < to; i++) {
+                double value = q(i);
+                if (value < min) {
+                    min = value;
+                    minIndex = i;
+                }
+            }
+            chunkMinIndex[c] = minIndex;
+        }
+
+        @Override
+        void scanEnds(int c) {
+            int from = chunkFrom(c);
+            int to = chunkTo(c);
+            int runningIndex = chunkMinIndex[c];
+            double running = runningIndex < 0 ? Double.POSITIVE_INFINITY : q(runningIndex);
+            double best = Double.NEGATIVE_INFINITY;
+            int start = from;
+            int end = from + minLength - 1;
+
+            for (int i = from; i < to; i++) {
+                double value = q(i);
+                if (value < running) {
+                    running = value;
+                    runningIndex = i;
+                }
+                int e = i + minLength;
+                double margin = q(e) - running;
+                if (margin > best) {
+                    best = margin;
+                    start = runningIndex;
+                    end = e - 1;
+                }
+            }
+            chunkBestStart[c] = start;
+            chunkBestEnd[c] = end;
+        }
+    }
+
+    /**
+     * Densest segment found: exact average, sum and inclusive bounds
+     */
+    public static class Result {
+        private final long sum;
+        private final int startIndex;
+        private final int endIndex;
+
+        public Result(long sum, int startIndex, int endIndex) {
+            this.sum = sum;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+        }
+
+        // Getters
+        public long getSum() { return sum; }
+        public int getStartIndex() { return startIndex; }
+        public int getEndIndex() { return endIndex; }
+        public int getLength() { return endIndex - startIndex + 1; }
+
+        public double getAverage() {
+            return (double) sum / getLength();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Max Average: %f, Range: [%d, %d]", getAverage(), startIndex, endIndex);
+        }
+    }
+}
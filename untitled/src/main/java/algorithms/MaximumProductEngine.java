@@ -0,0 +1,258 @@
+package algorithms;
+
+/**
+ * Contiguous subarray with the largest product, in one pass.
+ * A negative factor turns the smallest running product into the largest, so the
+ * scan keeps both the maximum and the minimum product ending at each element,
+ * each with its own start index, and takes the best of extending either one or
+ * restarting at the current element. Ties prefer extending, and the overall best
+ * is updated only on a strictly larger product, so the earliest end wins.
+ *
+ * The long variant checks each multiplication with {@link Math#multiplyHigh}.
+ * On overflow it saturates to Long.MAX_VALUE or Long.MIN_VALUE and sets a flag
+ * on the result, instead of wrapping or throwing. The double variant works in
+ * the log domain, tracking a sign and log|product|, so long runs of ratios
+ * neither overflow nor underflow; NaN and infinite inputs are not supported.
+ *
+ * Time Complexity: O(n)
+ * Space Complexity: O(1)
+ */
+public class MaximumProductEngine {
+
+    /**
+     * Maximum product over an int[] with saturating long accumulation
+     */
+    public ProductResult findMaximumProduct(int[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        long maxEnd = nums[0];
+        long minEnd = nums[0];
+        int maxStart = 0;
+        int minStart = 0;
+        long best = nums[0];
+        int bestStart = 0;
+        int bestEnd = 0;
+        boolean overflowed = false;
+
+        for (int i = 1; i < nums.length; i++) {
+            long value = nums[i];
+
+            long fromMax = maxEnd * value;
+            if (Math.multiplyHigh(maxEnd, value) != (fromMax >> 63)) {
+                fromMax = saturate(maxEnd, value);
+                overflowed = true;
+            }
+            long fromMin = minEnd * value;
+            if (Math.multiplyHigh(minEnd, value) != (fromMin >> 63)) {
+                fromMin = saturate(minEnd, value);
+                overflowed = true;
+            }
+
+            long newMax = fromMax;
+            int newMaxStart = maxStart;
+            if (fromMin > newMax) {
+                newMax = fromMin;
+                newMaxStart = minStart;
+            }
+            if (value > newMax) {
+                newMax = value;
+                newMaxStart = i;
+            }
+
+            long newMin = fromMin;
+            int newMinStart = minStart;
+            if (fromMax < newMin) {
+                newMin = fromMax;
+                newMinStart = maxStart;
+            }
+            if (value < newMin) {
+                newMin = value;
+                newMinStart = i;
+            }
+
+            maxEnd = newMax;
+            maxStart = newMaxStart;
+            minEnd = newMin;
+            minStart = newMinStart;
+
+            if (maxEnd > best) {
+                best = maxEnd;
+                bestStart = maxStart;
+                bestEnd = i;
+            }
+        }
+
+        return new ProductResult(best, bestStart, bestEnd, overflowed);
+    }
+
+    /**
+     * Maximum product over a double[] of ratios, computed in the log domain
+     */
+    public LogProductResult findMaximumProductLog(double[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (values.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        int maxSign = sign(values[0]);
+        double maxLog = Math.log(Math.abs(values[0]));
+        int maxStart = 0;
+        int minSign = maxSign;
+        double minLog = maxLog;
+        int minStart = 0;
+        int bestSign = maxSign;
+        double bestLog = maxLog;
+        int bestStart = 0;
+        int bestEnd = 0;
+
+        for (int i = 1; i < values.length; i++) {
+            int valueSign = sign(values[i]);
+            double valueLog = Math.log(Math.abs(values[i]));
+
+            int fromMaxSign = maxSign * valueSign;
+            double fromMaxLog = maxLog + valueLog;
+            int fromMinSign = minSign * valueSign;
+            double fromMinLog = minLog + valueLog;
+
+            int newMaxSign = fromMaxSign;
+            double newMaxLog = fromMaxLog;
+            int newMaxStart = maxStart;
+            if (greater(fromMinSign, fromMinLog, newMaxSign, newMaxLog)) {
+                newMaxSign = fromMinSign;
+                newMaxLog = fromMinLog;
+                newMaxStart = minStart;
+            }
+            if (greater(valueSign, valueLog, newMaxSign, newMaxLog)) {
+                newMaxSign = valueSign;
+                newMaxLog = valueLog;
+                newMaxStart = i;
+            }
+
+            int newMinSign = fromMinSign;
+            double newMinLog = fromMinLog;
+            int newMinStart = minStart;
+            if (greater(newMinSign, newMinLog, fromMaxSign, fromMaxLog)) {
+                newMinSign = fromMaxSign;
+                newMinLog = fromMaxLog;
+                newMinStart = maxStart;
+            }
+            if (greater(newMinSign, newMinLog, valueSign, valueLog)) {
+                newMinSign = valueSign;
+                newMinLog = valueLog;
+                newMinStart = i;
+            }
+
+            maxSign = newMaxSign;
+            maxLog = newMaxLog;
+            maxStart = newMaxStart;
+            minSign = newMinSign;
+            minLog = newMinLog;
+            minStart = newMinStart;
+
+            if (greater(maxSign, maxLog, bestSign, bestLog)) {
+                bestSign = maxSign;
+                bestLog = maxLog;
+                bestStart = maxStart;
+                bestEnd = i;
+            }
+        }
+
+        return new LogProductResult(bestSign, bestLog, bestStart, bestEnd);
+    }
+
+    private static long saturate(long a, long b) {
+        return (a ^ b) < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    private static int sign(double value) {
+        return value > 0 ? 1 : value < 0 ? -1 : 0;
+    }
+
+    /**
+     * Whether sign1 * exp(log1) > sign2 * exp(log2)
+     */
+    private static boolean greater(int sign1, double log1, int sign2, double log2) {
+        if (sign1 != sign2) {
+            return sign1 > sign2;
+        }
+        if (sign1 > 0) {
+            return log1 > log2;
+        }
+        if (sign1 < 0) {
+            return log1 < log2;
+        }
+        return false;
+    }
+
+    /**
+     * Long maximum product with its inclusive range; when overflowed is set the
+     * product saturated at some point and is only a bound
+     */
+    public static class ProductResult {
+        private final long product;
+        private final int startIndex;
+        private final int endIndex;
+        private final boolean overflowed;
+
+        public ProductResult(long product, int startIndex, int endIndex, boolean overflowed) {
+            this.product = product;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            this.overflowed = overflowed;
+        }
+
+        // Getters
+        public long getProduct() { return product; }
+        public int getStartIndex() { return startIndex; }
+        public int getEndIndex() { return endIndex; }
+        public boolean isOverflowed() { return overflowed; }
+
+        @Override
+        public String toString() {
+            return String.format("Max Product: %d%s, Range: [%d, %d]",
+                               product, overflowed ? " (overflowed)" : "", startIndex, endIndex);
+        }
+    }
+
+    /**
+     * Log-domain maximum product: sign (-1, 0 or 1) and log|product| with its inclusive range
+     */
+    public static class LogProductResult {
+        private final int sign;
+        private final double logMagnitude;
+        private final int startIndex;
+        private final int endIndex;
+
+        public LogProductResult(int sign, double logMagnitude, int startIndex, int endIndex) {
+            this.sign = sign;
+            this.logMagnitude = logMagnitude;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+        }
+
+        // Getters
+        public int getSign() { return sign; }
+        public double getLogMagnitude() { return logMagnitude; }
+        public int getStartIndex() { return startIndex; }
+        public int getEndIndex() { return endIndex; }
+
+        /**
+         * The product as a double; may be infinite or zero where the log form is not
+         */
+        public double getProduct() {
+            return sign == 0 ? 0.0 : sign * Math.exp(logMagnitude);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Max Product: %s, Range: [%d, %d]", getProduct(), startIndex, endIndex);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+
+/**
+ * Strategy interface for maximum subarray implementations.
+ * Lets callers choose between the instrumented scan used for analysis
+ * and uninstrumented engines used on production hot paths.
+ */
+public interface MaximumSubarrayEngine {
+
+    /**
+     * Finds the maximum sum of a contiguous subarray of the given array
+     *
+     * @throws IllegalArgumentException if the array is null or empty
+     */
+    MaximumSubarrayResult findMaximumSubarray(int[] nums);
+}
@@ -0,0 +1,230 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Maximum-sum rectangle in a 2D grid.
+ * For every pair of rows (top, bottom) the rows in between are compressed into
+ * one long[] of column sums, which is then scanned with the long Kadane loop of
+ * {@link PrimitiveKadane}, inlined so nothing is allocated per row pair. The grid
+ * is transposed first when it has more rows than columns, so the quadratic factor
+ * is always the smaller dimension.
+ * Different top rows are independent and are spread across a ForkJoinPool.
+ *
+ * Ties keep the rectangle found first in (top, bottom, kernel) order, scanning the
+ * orientation actually used; the parallel merge preserves that order.
+ *
+ * Time Complexity: O(min(R, C)^2 * max(R, C) / p) with p workers
+ * Space Complexity: O(max(R, C)) per worker, plus a copy of the grid
+ */
+public class MaximumSubmatrixEngine {
+    /** Row pairs x columns below which the search runs on the calling thread */
+    public static final long DEFAULT_SEQUENTIAL_WORK = 1L << 18;
+
+    private final ForkJoinPool pool;
+    private final long sequentialWork;
+
+    public MaximumSubmatrixEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_WORK);
+    }
+
+    public MaximumSubmatrixEngine(ForkJoinPool pool) {
+        this(pool, DEFAULT_SEQUENTIAL_WORK);
+    }
+
+    public MaximumSubmatrixEngine(ForkJoinPool pool, long sequentialWork) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (sequentialWork < 1) {
+            throw new IllegalArgumentException("Sequential work must be positive");
+        }
+        this.pool = pool;
+        this.sequentialWork = sequentialWork;
+    }
+
+    /**
+     * Maximum-sum rectangle of a rectangular (non-jagged) grid
+     */
+    public SubmatrixResult findMaximumSubmatrix(int[][] grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException("Input grid cannot be null");
+        }
+        if (grid.length == 0 || grid[0] == null || grid[0].length == 0) {
+            throw new IllegalArgumentException("Input grid cannot be empty");
+        }
+
+        int rows = grid.length;
+        int columns = grid[0].length;
+        int[] flat = new int[Math.multiplyExact(rows, columns)];
+        for (int row = 0; row < rows; row++) {
+            if (grid[row] == null || grid[row].length != columns) {
+                throw new IllegalArgumentException("Input grid must be rectangular");
+            }
+            System.arraycopy(grid[row], 0, flat, row * columns, columns);
+        }
+        return search(flat, rows, columns);
+    }
+
+    /**
+     * Maximum-sum rectangle of a row-major grid with the given dimensions.
+     * The input array is not modified.
+     */
+    public SubmatrixResult findMaximumSubmatrix(int[] grid, int rows, int columns) {
+        if (grid == null) {
+            throw new IllegalArgumentException("Input grid cannot be null");
+        }
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException("Input grid cannot be empty");
+        }
+        if ((long) rows * columns != grid.length) {
+            throw new IllegalArgumentException(
+                    "Grid length " + grid.length + " does not match " + rows + " x " + columns);
+        }
+        return search(grid, rows, columns);
+    }
+
+    public ForkJoinPool getPool() { return pool; }
+    public long getSequentialWork() { return sequentialWork; }
+
+    private SubmatrixResult search(int[] grid, int rows, int columns) {
+        if (rows <= columns) {
+            return searchRowPairs(grid, rows, columns);
+        }
+        return searchRowPairs(transpose(grid, rows, columns), columns, rows).transpose();
+    }
+
+    private SubmatrixResult searchRowPairs(int[] grid, int rows, int columns) {
+        long work = (long) rows * (rows + 1) / 2 * columns;
+        RowPairTask task = new RowPairTask(grid, rows, columns, 0, rows, sequentialWork);
+        return work <= sequentialWork ? task.compute() : pool.invoke(task);
+    }
+
+    private static int[] transpose(int[] grid, int rows, int columns) {
+        int[] transposed = new int[grid.length];
+        for (int row = 0; row < rows; row++) {
+            int base = row * columns;
+            for (int column = 0; column < columns; column++) {
+                transposed[column * rows + row] = grid[base + column];
+            }
+        }
+        return transposed;
+    }
+
+    /**
+     * Best rectangle whose top row lies in [fromTop, toTop)
+     */
+    static final class RowPairTask extends RecursiveTask<SubmatrixResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] grid;
+        private final int rows;
+        private final int columns;
+        private final int fromTop;
+        private final int toTop;
+        private final long sequentialWork;
+
+        RowPairTask(int[] grid, int rows, int columns, int fromTop, int toTop, long sequentialWork) {
+            this.grid = grid;
+            this.rows = rows;
+            this.columns = columns;
+            this.fromTop = fromTop;
+            this.toTop = toTop;
+            this.sequentialWork = sequentialWork;
+        }
+
+        @Override
+        protected SubmatrixResult compute() {
+            long work = (pairsBefore(toTop) - pairsBefore(fromTop)) * columns;
+            if (toTop - fromTop == 1 || work <= sequentialWork) {
+                return scan();
+            }
+
+            int mid = splitTop();
+            RowPairTask upper = new RowPairTask(grid, rows, columns, fromTop, mid, sequentialWork);
+            RowPairTask lower = new RowPairTask(grid, rows, columns, mid, toTop, sequentialWork);
+            upper.fork();
+            SubmatrixResult lowerResult = lower.compute();
+            SubmatrixResult upperResult = upper.join();
+            // Earlier top rows win ties
+            return lowerResult.getMaxSum() > upperResult.getMaxSum() ? lowerResult : upperResult;
+        }
+
+        /**
+         * Row pairs whose top row is below the given one: sum of (rows - t) for t < top
+         */
+        private long pairsBefore(int top) {
+            return (long) top * rows - (long) top * (top - 1) / 2;
+        }
+
+        /**
+         * Top row splitting [fromTop, toTop) into halves of equal work. Top rows near
+         * the end own fewer row pairs, so the split is found by solving the quadratic
+         * pairsBefore(t) = half for t, then corrected for rounding.
+         */
+        private int splitTop() {
+            long half = (pairsBefore(fromTop) + pairsBefore(toTop)) / 2;
+            double b = 2.0 * rows + 1;
+            int mid = (int) Math.ceil((b - Math.sqrt(b * b - 8.0 * half)) / 2);
+            mid = Math.max(fromTop + 1, Math.min(toTop - 1, mid));
+            while (mid > fromTop + 1 && pairsBefore(mid - 1) >= half) {
+                mid--;
+            }
+            while (mid < toTop - 1 && pairsBefore(mid) < half) {
+                mid++;
+            }
+            return mid;
+        }
+
+        private SubmatrixResult scan() {
+            long[] columnSums = new long[columns];
+            long bestSum = Long.MIN_VALUE;
+            int bestTop = fromTop;
+            int bestLeft = 0;
+            int bestBottom = fromTop;
+            int bestRight = 0;
+
+            for (int top = fromTop; top < toTop; top++) {
+                Arrays.fill(columnSums, 0);
+                for (int bottom = top; bottom < rows; bottom++) {
+                    int base = bottom * columns;
+                    for (int column = 0; column < columns; column++) {
+                        columnSums[column] += grid[base + column];
+                    }
+
+                    // Kadane over the strip
+                    long maxEndingHere = columnSums[0];
+                    long maxSoFar = columnSums[0];
+                    int start = 0;
+                    int end = 0;
+                    int tempStart = 0;
+                    for (int column = 1; column < columns; column++) {
+                        long value = columnSums[column];
+                        if (maxEndingHere < 0) {
+                            maxEndingHere = value;
+                            tempStart = column;
+                        } else {
+                            maxEndingHere += value;
+                        }
+                        if (maxEndingHere > maxSoFar) {
+                            maxSoFar = maxEndingHere;
+                            start = tempStart;
+                            end = column;
+                        }
+                    }
+
+                    if (maxSoFar > bestSum) {
+                        bestSum = maxSoFar;
+                        bestTop = top;
+                        bestLeft = start;
+                        bestBottom = bottom;
+                        bestRight = end;
+                    }
+                }
+            }
+            return new SubmatrixResult(bestSum, bestTop, bestLeft, bestBottom, bestRight);
+        }
+    }
+}
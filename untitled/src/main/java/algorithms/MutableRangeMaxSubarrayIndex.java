@@ -0,0 +1,112 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Range maximum-subarray index that also accepts in-place corrections.
+ * Works on its own copy of the input; a point update rescans the element's block
+ * and rebuilds the O(log n) tree nodes above it, and a bulk update rebuilds each
+ * affected node once, level by level, instead of once per changed element.
+ *
+ * Not thread-safe: updates must not run concurrently with queries or each other.
+ *
+ * Update: O(B + log(n / B)); bulk update of k elements: O(k * (B + log(n / B))) worst case
+ * Query: O(log(n / B) + B)
+ */
+public class MutableRangeMaxSubarrayIndex extends RangeMaxSubarrayIndex {
+
+    public MutableRangeMaxSubarrayIndex(int[] nums) {
+        this(nums, DEFAULT_BLOCK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public MutableRangeMaxSubarrayIndex(int[] nums, int blockSize) {
+        this(nums, blockSize, ForkJoinPool.commonPool());
+    }
+
+    public MutableRangeMaxSubarrayIndex(int[] nums, int blockSize, ForkJoinPool pool) {
+        super(nums == null ? null : nums.clone(), blockSize, pool);
+    }
+
+    /**
+     * Current value at the given position
+     */
+    public int get(int i) {
+        return nums[i];
+    }
+
+    /**
+     * Replaces one value and refreshes the summaries that cover it
+     */
+    public void update(int i, int value) {
+        checkIndex(i);
+        nums[i] = value;
+
+        int block = i / blockSize;
+        summarizeBlock(block);
+        for (int node = (blockCount + block) >> 1; node >= 1; node >>= 1) {
+            rebuildNode(node);
+        }
+    }
+
+    /**
+     * Applies updates nums[indices[k]] = values[k] in order, so later writes to the
+     * same position win, and then rebuilds every affected node exactly once per level
+     */
+    public void updateAll(int[] indices, int[] values) {
+        if (indices == null || values == null) {
+            throw new IllegalArgumentException("Indices and values cannot be null");
+        }
+        if (indices.length != values.length) {
+            throw new IllegalArgumentException("Indices and values must have same length");
+        }
+        for (int index : indices) {
+            checkIndex(index);
+        }
+        if (indices.length == 0) {
+            return;
+        }
+
+        int[] dirty = new int[indices.length];
+        for (int k = 0; k < indices.length; k++) {
+            nums[indices[k]] = values[k];
+            dirty[k] = indices[k] / blockSize;
+        }
+
+        Arrays.sort(dirty);
+        int count = 0;
+        for (int k = 0; k < dirty.length; k++) {
+            if (count == 0 || dirty[count - 1] != dirty[k]) {
+                dirty[count++] = dirty[k];
+            }
+        }
+        for (int k = 0; k < count; k++) {
+            summarizeBlock(dirty[k]);
+            dirty[k] += blockCount;
+        }
+
+        // Parents of a sorted node list are sorted, so each round dedupes in one pass.
+        // Leaves sit on two depths when blockCount is not a power of two; a node reached
+        // early is simply rebuilt again once its late child has been refreshed.
+        while (count > 0) {
+            int parents = 0;
+            for (int k = 0; k < count; k++) {
+                if (dirty[k] == 1) {
+                    continue;
+                }
+                int parent = dirty[k] >> 1;
+                if (parents == 0 || dirty[parents - 1] != parent) {
+                    dirty[parents++] = parent;
+                    rebuildNode(parent);
+                }
+            }
+            count = parents;
+        }
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= nums.length) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + nums.length);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+
+/**
+ * Reusable result holder for allocation-free scans.
+ * Backed by one long[3] (sum, start, end) that engines overwrite on each call,
+ * so a caller can keep a single instance per thread on a hot path.
+ * Not thread-safe; read the values before passing the holder to the next scan.
+ */
+public final class MutableSubarrayResult {
+    static final int SUM = 0;
+    static final int START = 1;
+    static final int END = 2;
+
+    final long[] values = new long[3];
+
+    public long getMaxSum() { return values[SUM]; }
+    public int getStartIndex() { return (int) values[START]; }
+    public int getEndIndex() { return (int) values[END]; }
+
+    public int getLength() {
+        return getEndIndex() - getStartIndex() + 1;
+    }
+
+    /**
+     * Immutable copy of the current values (allocates)
+     */
+    public MaximumSubarrayResult toResult() {
+        return new MaximumSubarrayResult((int) values[SUM], getStartIndex(), getEndIndex());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Max Sum: %d, Range: [%d, %d]", values[SUM], values[START], values[END]);
+    }
+}
@@ -0,0 +1,124 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+
+/**
+ * Kadane engine that never wraps around on large positive runs.
+ * The array is processed in fixed-size blocks. Each block first runs with an
+ * int accumulator while OR-ing a branch-free overflow flag
+ * ((a ^ r) & (b ^ r) has its sign bit set iff a + b overflowed); only blocks
+ * whose flag fires, or that start with a running sum outside the int range,
+ * are replayed with a long accumulator.
+ *
+ * Time Complexity: O(n)
+ * Space Complexity: O(1)
+ */
+public class OverflowSafeKadaneEngine implements MaximumSubarrayEngine {
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final int blockSize;
+
+    public OverflowSafeKadaneEngine() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public OverflowSafeKadaneEngine(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Int-based result for interface compatibility
+     *
+     * @throws ArithmeticException if the maximum sum does not fit in an int
+     */
+    @Override
+    public MaximumSubarrayResult findMaximumSubarray(int[] nums) {
+        LongMaximumSubarrayResult result = findMaximumSubarrayLong(nums);
+        return new MaximumSubarrayResult(Math.toIntExact(result.getMaxSum()),
+                (int) result.getStartIndex(), (int) result.getEndIndex());
+    }
+
+    /**
+     * Finds the maximum subarray with an exact long sum
+     */
+    public LongMaximumSubarrayResult findMaximumSubarrayLong(int[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        long maxEndingHere = nums[0];
+        long maxSoFar = nums[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int blockStart = 1, blockEnd; blockStart < nums.length; blockStart = blockEnd) {
+            blockEnd = (int) Math.min((long) blockStart + blockSize, nums.length);
+
+            if (maxEndingHere >= Integer.MIN_VALUE && maxEndingHere <= Integer.MAX_VALUE) {
+                // Fast path: int accumulator with a sticky overflow flag
+                int running = (int) maxEndingHere;
+                int runningStart = tempStart;
+                int blockBest = Integer.MIN_VALUE;
+                int blockBestStart = -1;
+                int blockBestEnd = -1;
+                int overflow = 0;
+
+                for (int i = blockStart; i < blockEnd; i++) {
+                    int value = nums[i];
+                    if (running < 0) {
+                        running = value;
+                        runningStart = i;
+                    } else {
+                        int sum = running + value;
+                        overflow |= (running ^ sum) & (value ^ sum);
+                        running = sum;
+                    }
+                    if (running > blockBest) {
+                        blockBest = running;
+                        blockBestStart = runningStart;
+                        blockBestEnd = i;
+                    }
+                }
+
+                if (overflow >= 0) {
+                    maxEndingHere = running;
+                    tempStart = runningStart;
+                    if (blockBest > maxSoFar) {
+                        maxSoFar = blockBest;
+                        start = blockBestStart;
+                        end = blockBestEnd;
+                    }
+                    continue;
+                }
+            }
+
+            // Slow path: replay the block with a long accumulator
+            for (int i = blockStart; i < blockEnd; i++) {
+                if (maxEndingHere < 0) {
+                    maxEndingHere = nums[i];
+                    tempStart = i;
+                } else {
+                    maxEndingHere += nums[i];
+                }
+                if (maxEndingHere > maxSoFar) {
+                    maxSoFar = maxEndingHere;
+                    start = tempStart;
+                    end = i;
+                }
+            }
+        }
+
+        return new LongMaximumSubarrayResult(maxSoFar, start, end);
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+}
@@ -0,0 +1,99 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel divide-and-conquer Kadane on a ForkJoinPool.
+ * The array is split into chunks of at most {@code threshold} elements, each chunk
+ * is reduced to a {@link SegmentSummary}, and the summaries are merged pairwise.
+ * Returns the same result, including indices, as the sequential scan.
+ *
+ * Time Complexity: O(n / p + log n) with p workers
+ * Space Complexity: O(log n) summaries on the task stack
+ */
+public class ParallelKadaneEngine implements MaximumSubarrayEngine {
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelKadaneEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelKadaneEngine(ForkJoinPool pool) {
+        this(pool, DEFAULT_THRESHOLD);
+    }
+
+    public ParallelKadaneEngine(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public MaximumSubarrayResult findMaximumSubarray(int[] nums) {
+        return summarize(nums).toResult();
+    }
+
+    /**
+     * Computes the summary of the whole array, splitting across the pool when large
+     */
+    public SegmentSummary summarize(int[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        if (nums.length <= threshold) {
+            return SegmentSummary.of(nums, 0, nums.length);
+        }
+        return pool.invoke(new SummaryTask(nums, 0, nums.length, threshold));
+    }
+
+    public ForkJoinPool getPool() { return pool; }
+    public int getThreshold() { return threshold; }
+
+    /**
+     * Recursively halves the range and merges the child summaries
+     */
+    static final class SummaryTask extends RecursiveTask<SegmentSummary> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] nums;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        SummaryTask(int[] nums, int from, int to, int threshold) {
+            this.nums = nums;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected SegmentSummary compute() {
+            if (to - from <= threshold) {
+                return SegmentSummary.of(nums, from, to);
+            }
+
+            int mid = (from + to) >>> 1;
+            SummaryTask left = new SummaryTask(nums, from, mid, threshold);
+            SummaryTask right = new SummaryTask(nums, mid, to, threshold);
+            left.fork();
+            SegmentSummary rightSummary = right.compute();
+            return SegmentSummary.combine(left.join(), rightSummary);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Prefix sums of an int array, answering the sum of any range in O(1).
+ * Entry i holds the long sum of nums[0..i), so sum(l..r) = prefix[r + 1] - prefix[l]
+ * and no range sum can overflow. Built with {@link Arrays#parallelPrefix} on a
+ * ForkJoinPool. The source array is not referenced after building.
+ *
+ * The index can be saved to and loaded from a file so large inputs need not be
+ * re-indexed: a 16 byte header (the ASCII magic "KPSI", then a little-endian format
+ * version and element count) followed by the n + 1 prefix values as little-endian
+ * longs, streamed through a FileChannel. It can also be built straight from a raw
+ * little-endian int file, the format read by {@link MappedFileKadane}.
+ *
+ * Build: O(n / p) with p workers; Query: O(1)
+ * Space: n + 1 longs
+ */
+public class PrefixSumIndex {
+    public static final int MAX_ELEMENTS = Integer.MAX_VALUE - 9;   // n + 1 longs must fit in one array
+    static final int MAGIC = 0x4B505349;   // "KPSI", written big-endian so the file starts with it
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    private static final int IO_CHUNK_BYTES = 1 << 20;
+
+    private final long[] prefix;
+
+    public PrefixSumIndex(int[] nums) {
+        this(nums, ForkJoinPool.commonPool());
+    }
+
+    public PrefixSumIndex(int[] nums, ForkJoinPool pool) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (nums.length > MAX_ELEMENTS) {
+            throw new IllegalArgumentException("Input array exceeds " + MAX_ELEMENTS + " elements");
+        }
+        long[] sums = new long[nums.length + 1];
+        for (int i = 0; i < nums.length; i++) {
+            sums[i + 1] = nums[i];
+        }
+        this.prefix = accumulate(sums, pool);
+    }
+
+    /**
+     * Builds the index of a raw little-endian int file without an intermediate int[]
+     *
+     * @throws IllegalArgumentException if the file is not a whole number of ints
+     *                                  or holds more than {@link #MAX_ELEMENTS} of them
+     */
+    public static PrefixSumIndex fromIntFile(Path file, ForkJoinPool pool) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Input file cannot be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("Input file size must be a multiple of 4 bytes: " + size);
+            }
+            if (size / Integer.BYTES > MAX_ELEMENTS) {
+                throw new IllegalArgumentException("Input file exceeds " + MAX_ELEMENTS + " elements");
+            }
+
+            long[] sums = new long[(int) (size / Integer.BYTES) + 1];
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IO_CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            int next = 1;
+            while (next < sums.length) {
+                int count = Math.min(sums.length - next, IO_CHUNK_BYTES / Integer.BYTES);
+                buffer.clear().limit(count * Integer.BYTES);
+                readFully(channel, buffer);
+                buffer.flip();
+                for (int i = 0; i < count; i++) {
+                    sums[next++] = buffer.getInt();
+                }
+            }
+            return new PrefixSumIndex(accumulate(sums, pool));
+        }
+    }
+
+    private static long[] accumulate(long[] sums, ForkJoinPool pool) {
+        // parallelPrefix forks into the pool of the task that calls it
+        pool.submit(() -> Arrays.parallelPrefix(sums, Long::sum)).join();
+        return sums;
+    }
+
+    private PrefixSumIndex(long[] prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Sum of nums[l..r], both ends inclusive
+     */
+    public long rangeSum(int l, int r) {
+        if (l < 0 || r >= size()) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + l + ", " + r + "] out of bounds for length " + size());
+        }
+        if (l > r) {
+            throw new IllegalArgumentException("Range start must not exceed range end: " + l + " > " + r);
+        }
+        return prefix[r + 1] - prefix[l];
+    }
+
+    /**
+     * Sum of the first count elements
+     */
+    public long prefixSum(int count) {
+        if (count < 0 || count > size()) {
+            throw new IndexOutOfBoundsException("Prefix length " + count + " out of bounds for length " + size());
+        }
+        return prefix[count];
+    }
+
+    public long total() { return prefix[prefix.length - 1]; }
+    public int size() { return prefix.length - 1; }
+
+    /**
+     * Writes the index to the given file, replacing any existing content
+     */
+    public void save(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Output file cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Buffers start big-endian, which writes the magic in reading order
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IO_CHUNK_BYTES);
+            buffer.putInt(MAGIC).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(FORMAT_VERSION).putLong(size());
+
+            int next = 0;
+            while (next < prefix.length || buffer.position() > 0) {
+                int count = Math.min(prefix.length - next, buffer.remaining() / Long.BYTES);
+                buffer.asLongBuffer().put(prefix, next, count);
+                buffer.position(buffer.position() + count * Long.BYTES);
+                next += count;
+
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * Reads an index previously written by {@link #save}
+     *
+     * @throws IOException if the file is not a complete index in this format
+     */
+    public static PrefixSumIndex load(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Input file cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IO_CHUNK_BYTES);
+            buffer.limit(HEADER_BYTES);
+            readFully(channel, buffer);
+            buffer.flip();
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a prefix sum index: " + file);
+            }
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported prefix sum index version " + version + ": " + file);
+            }
+            long elementCount = buffer.getLong();
+            long expectedBytes = HEADER_BYTES + (elementCount + 1) * Long.BYTES;
+            if (elementCount < 0 || elementCount > MAX_ELEMENTS || channel.size() != expectedBytes) {
+                throw new IOException("Corrupt prefix sum index (" + elementCount + " elements, "
+                        + channel.size() + " bytes): " + file);
+            }
+
+            long[] prefix = new long[(int) elementCount + 1];
+            int next = 0;
+            while (next < prefix.length) {
+                int count = Math.min(prefix.length - next, IO_CHUNK_BYTES / Long.BYTES);
+                buffer.clear().limit(count * Long.BYTES);
+                readFully(channel, buffer);
+                buffer.flip();
+                buffer.asLongBuffer().get(prefix, next, count);
+                next += count;
+            }
+            return new PrefixSumIndex(prefix);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of prefix sum index");
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package algorithms;
+
+/**
+ * Kadane scans specialized for the non-int primitive array types.
+ * Every overload is the same loop as {@link FastKadaneEngine} with only the
+ * element and accumulator types substituted, so the input is read in place
+ * with no boxing, widening copy or intermediate array. Keep the overloads in
+ * lockstep when changing the loop.
+ *
+ * Accumulator per element type:
+ * - long: long (wraps on overflow, like the int engine)
+ * - double, float: double (float inputs gain precision; NaN is not supported)
+ * - short, byte: long (cannot overflow for any array length)
+ *
+ * Time Complexity: O(n)
+ * Space Complexity: O(1)
+ */
+public final class PrimitiveKadane {
+
+    private PrimitiveKadane() {
+    }
+
+    /**
+     * Kadane scan over a long[] with long accumulation
+     */
+    public static LongMaximumSubarrayResult findMaximumSubarray(long[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        long maxEndingHere = nums[0];
+        long maxSoFar = nums[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int i = 1; i < nums.length; i++) {
+            long value = nums[i];
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                tempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+
+        return new LongMaximumSubarrayResult(maxSoFar, start, end);
+    }
+
+    /**
+     * Kadane scan over a double[] with double accumulation
+     */
+    public static DoubleMaximumSubarrayResult findMaximumSubarray(double[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        double maxEndingHere = nums[0];
+        double maxSoFar = nums[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int i = 1; i < nums.length; i++) {
+            double value = nums[i];
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                tempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+
+        return new DoubleMaximumSubarrayResult(maxSoFar, start, end);
+    }
+
+    /**
+     * Kadane scan over a float[] with double accumulation
+     */
+    public static DoubleMaximumSubarrayResult findMaximumSubarray(float[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        double maxEndingHere = nums[0];
+        double maxSoFar = nums[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int i = 1; i < nums.length; i++) {
+            double value = nums[i];
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                tempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+
+        return new DoubleMaximumSubarrayResult(maxSoFar, start, end);
+    }
+
+    /**
+     * Kadane scan over a short[] with long accumulation
+     */
+    public static LongMaximumSubarrayResult findMaximumSubarray(short[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        long maxEndingHere = nums[0];
+        long maxSoFar = nums[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int i = 1; i < nums.length; i++) {
+            long value = nums[i];
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                tempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+
+        return new LongMaximumSubarrayResult(maxSoFar, start, end);
+    }
+
+    /**
+     * Kadane scan over a byte[] with long accumulation
+     */
+    public static LongMaximumSubarrayResult findMaximumSubarray(byte[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        long maxEndingHere = nums[0];
+        long maxSoFar = nums[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+
+        for (int i = 1; i < nums.length; i++) {
+            long value = nums[i];
+            if (maxEndingHere < 0) {
+                maxEndingHere = value;
+                tempStart = i;
+            } else {
+                maxEndingHere += value;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+
+        return new LongMaximumSubarrayResult(maxSoFar, start, end);
+    }
+}
@@ -0,0 +1,232 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Static index answering "maximum subarray within nums[l..r]" for arbitrary ranges.
+ * The array is cut into blocks of {@code blockSize} elements; each block is reduced
+ * to a segment summary and the summaries form a bottom-up segment tree held in a
+ * {@link SummaryStore}, so the whole index is eight flat long arrays. A query scans
+ * the two partial end blocks directly and merges O(log n) tree nodes in between,
+ * with the same tie-breaking as a sequential scan of the range.
+ *
+ * The array is referenced, not copied, and must not be modified after building.
+ * Large inputs are built on a ForkJoinPool: block summaries in parallel, then each
+ * tree level in parallel from the bottom up.
+ *
+ * Build: O(n / p) with p workers; Query: O(log(n / B) + B)
+ * Space: 16 longs per block, i.e. about 2 longs per element at the default block size
+ */
+public class RangeMaxSubarrayIndex {
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+    static final int PARALLEL_GRAIN = 1 << 10;   // Nodes per build task
+
+    // Scratch slots used while answering a query
+    static final int LEFT = 0;
+    static final int RIGHT = 1;
+    static final int SCRATCH_SLOTS = 2;
+
+    final int[] nums;
+    final int blockSize;
+    final int blockCount;
+    final SummaryStore tree;   // Node i has children 2i and 2i+1; block b lives at blockCount + b
+
+    private final ThreadLocal<SummaryStore> scratch =
+            ThreadLocal.withInitial(() -> new SummaryStore(SCRATCH_SLOTS));
+
+    public RangeMaxSubarrayIndex(int[] nums) {
+        this(nums, DEFAULT_BLOCK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public RangeMaxSubarrayIndex(int[] nums, int blockSize) {
+        this(nums, blockSize, ForkJoinPool.commonPool());
+    }
+
+    public RangeMaxSubarrayIndex(int[] nums, int blockSize, ForkJoinPool pool) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.nums = nums;
+        this.blockSize = blockSize;
+        this.blockCount = (int) ((nums.length + (long) blockSize - 1) / blockSize);
+        this.tree = new SummaryStore(2 * blockCount);
+        build(pool);
+    }
+
+    /**
+     * Maximum subarray of nums[l..r], both ends inclusive; indices are absolute
+     */
+    public LongMaximumSubarrayResult query(int l, int r) {
+        SummaryStore store = scratch.get();
+        queryInto(l, r, store);
+        return store.toResult(LEFT);
+    }
+
+    /**
+     * Maximum subarray sum of nums[l..r] without allocating a result
+     */
+    public long querySum(int l, int r) {
+        SummaryStore store = scratch.get();
+        queryInto(l, r, store);
+        return store.best[LEFT];
+    }
+
+    /**
+     * Maximum subarray of the whole array. The tree is not padded to a power of two,
+     * so the root is not an ordered summary of everything and a full query is used.
+     */
+    public LongMaximumSubarrayResult whole() {
+        return query(0, nums.length - 1);
+    }
+
+    public int size() { return nums.length; }
+    public int getBlockSize() { return blockSize; }
+    public int getBlockCount() { return blockCount; }
+
+    /**
+     * Writes the summary of nums[l..r] into slot {@link #LEFT} of the given scratch store,
+     * which needs at least {@link #SCRATCH_SLOTS} slots
+     */
+    void queryInto(int l, int r, SummaryStore out) {
+        if (l < 0 || r >= nums.length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + l + ", " + r + "] out of bounds for length " + nums.length);
+        }
+        if (l > r) {
+            throw new IllegalArgumentException("Range start must not exceed range end: " + l + " > " + r);
+        }
+
+        int firstBlock = l / blockSize;
+        int lastBlock = r / blockSize;
+        if (firstBlock == lastBlock) {
+            out.setRange(LEFT, nums, l, r + 1);
+            return;
+        }
+
+        // Partial end blocks are scanned; whole blocks in between come from the tree
+        boolean hasLeft = false;
+        boolean hasRight = false;
+        int lo = firstBlock;
+        int hi = lastBlock + 1;
+        if (l != firstBlock * blockSize) {
+            out.setRange(LEFT, nums, l, (firstBlock + 1) * blockSize);
+            hasLeft = true;
+            lo++;
+        }
+        if (r + 1 != blockEnd(lastBlock)) {
+            out.setRange(RIGHT, nums, lastBlock * blockSize, r + 1);
+            hasRight = true;
+            hi--;
+        }
+
+        for (lo += blockCount, hi += blockCount; lo < hi; lo >>= 1, hi >>= 1) {
+            if ((lo & 1) != 0) {
+                if (hasLeft) {
+                    out.combine(LEFT, out, LEFT, tree, lo);
+                } else {
+                    out.copy(LEFT, tree, lo);
+                    hasLeft = true;
+                }
+                lo++;
+            }
+            if ((hi & 1) != 0) {
+                hi--;
+                if (hasRight) {
+                    out.combine(RIGHT, tree, hi, out, RIGHT);
+                } else {
+                    out.copy(RIGHT, tree, hi);
+                    hasRight = true;
+                }
+            }
+        }
+
+        if (!hasLeft) {
+            out.copy(LEFT, RIGHT);
+        } else if (hasRight) {
+            out.combine(LEFT, LEFT, RIGHT);
+        }
+    }
+
+    int blockEnd(int block) {
+        return (int) Math.min((long) (block + 1) * blockSize, nums.length);
+    }
+
+    void summarizeBlock(int block) {
+        tree.setRange(blockCount + block, nums, block * blockSize, blockEnd(block));
+    }
+
+    void rebuildNode(int node) {
+        tree.combine(node, 2 * node, 2 * node + 1);
+    }
+
+    private void build(ForkJoinPool pool) {
+        if (blockCount <= PARALLEL_GRAIN) {
+            for (int b = 0; b < blockCount; b++) {
+                summarizeBlock(b);
+            }
+            for (int node = blockCount - 1; node >= 1; node--) {
+                rebuildNode(node);
+            }
+            return;
+        }
+
+        pool.invoke(new BuildTask(this, 0, blockCount, true));
+        // Internal nodes [k, 2k) only depend on [2k, 4k), so each level is built in one pass
+        for (int k = Integer.highestOneBit(blockCount - 1); k >= 1; k >>= 1) {
+            int to = Math.min(2 * k, blockCount);
+            if (to - k <= PARALLEL_GRAIN) {
+                for (int node = k; node < to; node++) {
+                    rebuildNode(node);
+                }
+            } else {
+                pool.invoke(new BuildTask(this, k, to, false));
+            }
+        }
+    }
+
+    /**
+     * Summarizes blocks, or rebuilds the nodes of one tree level, over [from, to)
+     */
+    static final class BuildTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeMaxSubarrayIndex index;
+        private final int from;
+        private final int to;
+        private final boolean leaves;
+
+        BuildTask(RangeMaxSubarrayIndex index, int from, int to, boolean leaves) {
+            this.index = index;
+            this.from = from;
+            this.to = to;
+            this.leaves = leaves;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_GRAIN) {
+                for (int i = from; i < to; i++) {
+                    if (leaves) {
+                        index.summarizeBlock(i);
+                    } else {
+                        index.rebuildNode(i);
+                    }
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new BuildTask(index, from, mid, leaves), new BuildTask(index, mid, to, leaves));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel search for the largest K[e] - min(K[0..e - minLength]) over a key K
+ * defined on prefix positions, shared by the unbounded length-constrained scan
+ * (K = P) and the maximum-average check (K = P - x * i).
+ *
+ * Chunk c covers start positions [c * chunkSize, (c + 1) * chunkSize), and with
+ * them ends start + minLength. Chunk minimums of K are found in parallel and
+ * exclusive-scanned, then each chunk scans its ends starting from the minimum of
+ * everything before it. Ties keep the earlier end and the earliest minimum.
+ *
+ * Subclasses own K and supply its typed per-chunk loops; this class only ever
+ * holds positions, so it works the same for long and double keys.
+ */
+abstract class RunningMinimumScan {
+    final int minLength;
+    final int starts;        // Number of valid start positions
+    final int chunkSize;
+    final int chunkCount;
+
+    // Phase 1 output, then exclusive-scanned in place; -1 when no earlier chunk exists
+    final int[] chunkMinIndex;
+    // Phase 2 output, as inclusive element bounds
+    final int[] chunkBestStart;
+    final int[] chunkBestEnd;
+
+    int bestStart;
+    int bestEnd;
+
+    RunningMinimumScan(int positions, int minLength, int chunkSize) {
+        this.minLength = minLength;
+        this.starts = positions - minLength;
+        this.chunkSize = Math.min(chunkSize, starts);
+        this.chunkCount = (int) (((long) starts + this.chunkSize - 1) / this.chunkSize);
+        chunkMinIndex = new int[chunkCount];
+        chunkBestStart = new int[chunkCount];
+        chunkBestEnd = new int[chunkCount];
+    }
+
+    /**
+     * Runs both phases and leaves the best segment in bestStart and bestEnd
+     */
+    final void run(ForkJoinPool pool) {
+        if (chunkCount == 1) {
+            chunkMinIndex[0] = -1;
+            scanEnds(0);
+        } else {
+            pool.invoke(new PhaseTask(this, 0, chunkCount, true));
+            int running = -1;
+            for (int c = 0; c < chunkCount; c++) {
+                int index = chunkMinIndex[c];
+                chunkMinIndex[c] = running;
+                if (running < 0 || isBelow(index, running)) {
+                    running = index;
+                }
+            }
+            pool.invoke(new PhaseTask(this, 0, chunkCount, false));
+        }
+
+        // Earlier ends win ties
+        int bestChunk = 0;
+        for (int c = 1; c < chunkCount; c++) {
+            if (isWider(chunkBestStart[c], chunkBestEnd[c], chunkBestStart[bestChunk], chunkBestEnd[bestChunk])) {
+                bestChunk = c;
+            }
+        }
+        bestStart = chunkBestStart[bestChunk];
+        bestEnd = chunkBestEnd[bestChunk];
+    }
+
+    int chunkFrom(int c) {
+        return c * chunkSize;
+    }
+
+    int chunkTo(int c) {
+        return (int) Math.min((long) c * chunkSize + chunkSize, starts);
+    }
+
+    /**
+     * Whether K[i] < K[j]
+     */
+    abstract boolean isBelow(int i, int j);
+
+    /**
+     * Whether segment [start, end] has a strictly larger K[end + 1] - K[start]
+     * than [otherStart, otherEnd]
+     */
+    abstract boolean isWider(int start, int end, int otherStart, int otherEnd);
+
+    /**
+     * Stores the earliest position of the smallest K among chunk c's starts in chunkMinIndex[c]
+     */
+    abstract void minimumOfChunk(int c);
+
+    /**
+     * Stores the best segment over the ends of chunk c in chunkBestStart[c] and
+     * chunkBestEnd[c], starting from the minimum at chunkMinIndex[c]
+     */
+    abstract void scanEnds(int c);
+
+    /**
+     * Runs one phase of a scan over chunks [from, to)
+     */
+    static final class PhaseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RunningMinimumScan scan;
+        private final int from;
+        private final int to;
+        private final boolean minimums;
+
+        PhaseTask(RunningMinimumScan scan, int from, int to, boolean minimums) {
+            this.scan = scan;
+            this.from = from;
+            this.to = to;
+            this.minimums = minimums;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                if (minimums) {
+                    scan.minimumOfChunk(from);
+                } else {
+                    scan.scanEnds(from);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new PhaseTask(scan, from, mid, minimums), new PhaseTask(scan, mid, to, minimums));
+        }
+    }
+}
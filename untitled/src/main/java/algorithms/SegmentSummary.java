@@ -0,0 +1,110 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+
+import java.nio.IntBuffer;
+
+/**
+ * Associative summary of a contiguous segment for divide-and-conquer Kadane.
+ * Holds the segment total, best prefix, best suffix and best subarray together
+ * with their absolute indices, so summaries of adjacent segments can be merged
+ * in any grouping and still produce the same answer as one sequential scan.
+ *
+ * Ties are broken the way the sequential scan breaks them: the best subarray
+ * with the smallest end index wins, then the one with the smallest start index.
+ * Sums are accumulated in long so merging large segments cannot overflow.
+ * Scanning and merging are done by {@link SummaryStore}, which holds the single
+ * copy of these rules for both representations.
+ */
+public final class SegmentSummary {
+    private final long total;
+    private final long bestPrefix;
+    private final long prefixEnd;
+    private final long bestSuffix;
+    private final long suffixStart;
+    private final long bestSum;
+    private final long bestStart;
+    private final long bestEnd;
+
+    SegmentSummary(long total,
+                   long bestPrefix, long prefixEnd,
+                   long bestSuffix, long suffixStart,
+                   long bestSum, long bestStart, long bestEnd) {
+        this.total = total;
+        this.bestPrefix = bestPrefix;
+        this.prefixEnd = prefixEnd;
+        this.bestSuffix = bestSuffix;
+        this.suffixStart = suffixStart;
+        this.bestSum = bestSum;
+        this.bestStart = bestStart;
+        this.bestEnd = bestEnd;
+    }
+
+    /**
+     * Summarizes nums[from, to) in a single pass; indices are absolute
+     */
+    public static SegmentSummary of(int[] nums, int from, int to) {
+        if (from >= to) {
+            throw new IllegalArgumentException("Segment cannot be empty");
+        }
+
+        SummaryStore store = new SummaryStore(1);
+        store.setRange(0, nums, from, to);
+        return store.summary(0);
+    }
+
+    /**
+     * Summarizes buffer elements [from, to) using absolute gets, so the buffer's
+     * position is untouched; indices are reported as baseIndex + (i - from)
+     */
+    public static SegmentSummary of(IntBuffer buffer, int from, int to, long baseIndex) {
+        if (from >= to) {
+            throw new IllegalArgumentException("Segment cannot be empty");
+        }
+
+        SummaryStore store = new SummaryStore(1);
+        store.setRange(0, buffer, from, to, baseIndex);
+        return store.summary(0);
+    }
+
+    /**
+     * Merges the summaries of two adjacent segments, left immediately before right
+     */
+    public static SegmentSummary combine(SegmentSummary left, SegmentSummary right) {
+        SummaryStore store = new SummaryStore(2);
+        store.set(0, left);
+        store.set(1, right);
+        store.combine(0, 0, 1);
+        return store.summary(0);
+    }
+
+    /**
+     * Converts to the int-based result returned by the array engines
+     */
+    public MaximumSubarrayResult toResult() {
+        return new MaximumSubarrayResult((int) bestSum, (int) bestStart, (int) bestEnd);
+    }
+
+    /**
+     * Converts to a result with the exact long sum and long indices
+     */
+    public LongMaximumSubarrayResult toLongResult() {
+        return new LongMaximumSubarrayResult(bestSum, bestStart, bestEnd);
+    }
+
+    // Getters
+    public long getTotal() { return total; }
+    public long getBestPrefix() { return bestPrefix; }
+    public long getPrefixEnd() { return prefixEnd; }
+    public long getBestSuffix() { return bestSuffix; }
+    public long getSuffixStart() { return suffixStart; }
+    public long getBestSum() { return bestSum; }
+    public long getBestStart() { return bestStart; }
+    public long getBestEnd() { return bestEnd; }
+
+    @Override
+    public String toString() {
+        return String.format("Total: %d, Prefix: %d@%d, Suffix: %d@%d, Best: %d [%d, %d]",
+                total, bestPrefix, prefixEnd, bestSuffix, suffixStart, bestSum, bestStart, bestEnd);
+    }
+}
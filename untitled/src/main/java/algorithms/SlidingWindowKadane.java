@@ -0,0 +1,154 @@
+package algorithms;
+
+/**
+ * Maximum subarray within the most recent W values of a stream.
+ * Implemented as a two-stack queue of segment summaries held in a
+ * {@link SummaryStore}: new values are folded into a running back aggregate,
+ * and when the front runs empty the back values are rebuilt into suffix
+ * aggregates, so each value is merged a constant number of times.
+ * Positions are global long offsets since the first push (or last clear).
+ *
+ * Time Complexity: amortized O(1) per push and per query
+ * Space Complexity: O(W)
+ */
+public class SlidingWindowKadane {
+    private final int windowSize;
+    private final int[] values;
+    private final SummaryStore store;
+    private final int backSlot;
+    private final int resultSlot;
+    private final int leafSlot;
+
+    private long tail;   // Oldest position in the window
+    private long split;  // First position not covered by the front stack
+    private long head;   // Next position to be pushed
+    private boolean resultValid;
+
+    public SlidingWindowKadane(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        this.windowSize = windowSize;
+        this.values = new int[windowSize];
+        // Front stack uses one slot per ring position, followed by three working slots
+        this.store = new SummaryStore(windowSize + 3);
+        this.backSlot = windowSize;
+        this.resultSlot = windowSize + 1;
+        this.leafSlot = windowSize + 2;
+    }
+
+    /**
+     * Appends a value, evicting the oldest one once the window is full
+     */
+    public void push(int value) {
+        if (head - tail == windowSize) {
+            evict();
+        }
+
+        values[ring(head)] = value;
+        if (head == split) {
+            store.setLeaf(backSlot, value, head);
+        } else {
+            store.setLeaf(leafSlot, value, head);
+            store.combine(backSlot, backSlot, leafSlot);
+        }
+        head++;
+        resultValid = false;
+    }
+
+    /**
+     * Removes the oldest value from the window
+     *
+     * @throws IllegalStateException if the window is empty
+     */
+    public void evict() {
+        if (head == tail) {
+            throw new IllegalStateException("Window is empty");
+        }
+        if (tail == split) {
+            transfer();
+        }
+        tail++;
+        resultValid = false;
+    }
+
+    /**
+     * Rebuilds the front stack from the back values, newest first
+     */
+    private void transfer() {
+        long position = head - 1;
+        store.setLeaf(ring(position), values[ring(position)], position);
+        for (position--; position >= tail; position--) {
+            int slot = ring(position);
+            store.setLeaf(leafSlot, values[slot], position);
+            store.combine(slot, leafSlot, ring(position + 1));
+        }
+        split = head;
+    }
+
+    /**
+     * Computes the summary of the whole window into the result slot
+     */
+    private void refresh() {
+        if (resultValid) {
+            return;
+        }
+        if (head == tail) {
+            throw new IllegalStateException("Window is empty");
+        }
+        if (tail == split) {
+            store.copy(resultSlot, backSlot);
+        } else if (split == head) {
+            store.copy(resultSlot, ring(tail));
+        } else {
+            store.combine(resultSlot, ring(tail), backSlot);
+        }
+        resultValid = true;
+    }
+
+    private int ring(long position) {
+        return (int) (position % windowSize);
+    }
+
+    /**
+     * Returns the best subarray inside the current window
+     */
+    public LongMaximumSubarrayResult current() {
+        refresh();
+        return store.toResult(resultSlot);
+    }
+
+    /**
+     * Allocation-free accessors for per-tick reporting
+     */
+    public long getMaxSum() {
+        refresh();
+        return store.best[resultSlot];
+    }
+
+    public long getStartIndex() {
+        refresh();
+        return store.bestStart[resultSlot];
+    }
+
+    public long getEndIndex() {
+        refresh();
+        return store.bestEnd[resultSlot];
+    }
+
+    /**
+     * Empties the window and restarts positions at 0
+     */
+    public void clear() {
+        tail = 0;
+        split = 0;
+        head = 0;
+        resultValid = false;
+    }
+
+    // Getters
+    public int getWindowSize() { return windowSize; }
+    public int size() { return (int) (head - tail); }
+    public boolean isEmpty() { return head == tail; }
+    public long getPushCount() { return head; }
+}
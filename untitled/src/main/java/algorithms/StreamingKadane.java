@@ -0,0 +1,128 @@
+package algorithms;
+
+/**
+ * Stateful online Kadane accumulator for inputs that never fit in one array.
+ * Values arrive one at a time or in chunks; only the running Kadane state is
+ * kept, so memory stays O(1) however long the stream gets. Positions are
+ * global long offsets counted from the first value accepted since the last reset.
+ *
+ * Produces the same sum and indices as the sequential array scan over the
+ * concatenation of all chunks. Sums are kept in long. Not thread-safe.
+ *
+ * Time Complexity: O(1) per value
+ * Space Complexity: O(1)
+ */
+public class StreamingKadane {
+    private long count;
+    private long maxEndingHere;
+    private long tempStart;
+    private long maxSoFar;
+    private long start;
+    private long end;
+
+    public StreamingKadane() {
+        reset();
+    }
+
+    /**
+     * Discards all state so the next value is treated as offset 0
+     */
+    public void reset() {
+        count = 0;
+        // A negative running sum forces the first value to open a new subarray
+        maxEndingHere = -1;
+        tempStart = 0;
+        maxSoFar = Long.MIN_VALUE;
+        start = 0;
+        end = 0;
+    }
+
+    /**
+     * Consumes a single value
+     */
+    public void accept(int value) {
+        if (maxEndingHere < 0) {
+            maxEndingHere = value;
+            tempStart = count;
+        } else {
+            maxEndingHere += value;
+        }
+        if (maxEndingHere > maxSoFar) {
+            maxSoFar = maxEndingHere;
+            start = tempStart;
+            end = count;
+        }
+        count++;
+    }
+
+    /**
+     * Consumes a whole chunk
+     */
+    public void accept(int[] chunk) {
+        if (chunk == null) {
+            throw new IllegalArgumentException("Chunk cannot be null");
+        }
+        accept(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Consumes chunk[offset, offset + length)
+     */
+    public void accept(int[] chunk, int offset, int length) {
+        if (chunk == null) {
+            throw new IllegalArgumentException("Chunk cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > chunk.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + chunk.length);
+        }
+
+        // Work on locals so the loop does not write fields per element
+        long position = count;
+        long running = maxEndingHere;
+        long runningStart = tempStart;
+        long best = maxSoFar;
+        long bestStart = start;
+        long bestEnd = end;
+
+        int limit = offset + length;
+        for (int i = offset; i < limit; i++, position++) {
+            if (running < 0) {
+                running = chunk[i];
+                runningStart = position;
+            } else {
+                running += chunk[i];
+            }
+            if (running > best) {
+                best = running;
+                bestStart = runningStart;
+                bestEnd = position;
+            }
+        }
+
+        count = position;
+        maxEndingHere = running;
+        tempStart = runningStart;
+        maxSoFar = best;
+        start = bestStart;
+        end = bestEnd;
+    }
+
+    /**
+     * Returns the best subarray seen so far
+     *
+     * @throws IllegalStateException if no value has been accepted
+     */
+    public LongMaximumSubarrayResult current() {
+        if (count == 0) {
+            throw new IllegalStateException("No values have been accepted");
+        }
+        return new LongMaximumSubarrayResult(maxSoFar, start, end);
+    }
+
+    // Getters
+    public long getCount() { return count; }
+    public boolean isEmpty() { return count == 0; }
+    public long getMaxSoFar() { return maxSoFar; }
+    public long getMaxEndingHere() { return maxEndingHere; }
+}
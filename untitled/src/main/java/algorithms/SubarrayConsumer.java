@@ -0,0 +1,10 @@
+package algorithms;
+
+/**
+ * Receives subarrays one at a time without boxing: sum, start and end (inclusive).
+ * Returning false stops the enumeration.
+ */
+@FunctionalInterface
+public interface SubarrayConsumer {
+    boolean accept(long sum, int start, int end);
+}
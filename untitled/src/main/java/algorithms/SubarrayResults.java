@@ -0,0 +1,38 @@
+package algorithms;
+
+/**
+ * Ordered list of subarrays held in primitive arrays: sum, start and end (inclusive)
+ * per entry. The arrays are returned directly rather than copied.
+ */
+public final class SubarrayResults {
+    private final long[] sums;
+    private final int[] starts;
+    private final int[] ends;
+
+    SubarrayResults(long[] sums, int[] starts, int[] ends) {
+        this.sums = sums;
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    public int size() { return sums.length; }
+    public long getSum(int k) { return sums[k]; }
+    public int getStart(int k) { return starts[k]; }
+    public int getEnd(int k) { return ends[k]; }
+
+    public long[] getSums() { return sums; }
+    public int[] getStarts() { return starts; }
+    public int[] getEnds() { return ends; }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int k = 0; k < sums.length; k++) {
+            if (k > 0) {
+                sb.append(", ");
+            }
+            sb.append(String.format("%d@[%d, %d]", sums[k], starts[k], ends[k]));
+        }
+        return sb.append(']').toString();
+    }
+}
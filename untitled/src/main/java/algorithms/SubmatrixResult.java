@@ -0,0 +1,43 @@
+package algorithms;
+
+/**
+ * Maximum-sum rectangle: its sum and inclusive row and column bounds
+ */
+public class SubmatrixResult {
+    private final long maxSum;
+    private final int top;
+    private final int left;
+    private final int bottom;
+    private final int right;
+
+    public SubmatrixResult(long maxSum, int top, int left, int bottom, int right) {
+        this.maxSum = maxSum;
+        this.top = top;
+        this.left = left;
+        this.bottom = bottom;
+        this.right = right;
+    }
+
+    // Getters
+    public long getMaxSum() { return maxSum; }
+    public int getTop() { return top; }
+    public int getLeft() { return left; }
+    public int getBottom() { return bottom; }
+    public int getRight() { return right; }
+
+    public int getRowCount() { return bottom - top + 1; }
+    public int getColumnCount() { return right - left + 1; }
+
+    /**
+     * The same rectangle with rows and columns swapped
+     */
+    SubmatrixResult transpose() {
+        return new SubmatrixResult(maxSum, left, top, right, bottom);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Max Sum: %d, Rows: [%d, %d], Columns: [%d, %d]",
+                           maxSum, top, bottom, left, right);
+    }
+}
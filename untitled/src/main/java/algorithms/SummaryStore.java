@@ -0,0 +1,246 @@
+package algorithms;
+
+import java.nio.IntBuffer;
+
+/**
+ * Flat primitive storage for many {@link SegmentSummary} values.
+ * Each slot holds the eight summary fields in parallel long arrays, so trees and
+ * queues of summaries cost no per-node objects. The range scans and the merge
+ * here are the only implementation of the summary tie-breaking rules;
+ * {@link SegmentSummary} goes through them as well.
+ */
+final class SummaryStore {
+    final long[] total;
+    final long[] prefix;
+    final long[] prefixEnd;
+    final long[] suffix;
+    final long[] suffixStart;
+    final long[] best;
+    final long[] bestStart;
+    final long[] bestEnd;
+
+    SummaryStore(int capacity) {
+        total = new long[capacity];
+        prefix = new long[capacity];
+        prefixEnd = new long[capacity];
+        suffix = new long[capacity];
+        suffixStart = new long[capacity];
+        best = new long[capacity];
+        bestStart = new long[capacity];
+        bestEnd = new long[capacity];
+    }
+
+    int capacity() {
+        return total.length;
+    }
+
+    /**
+     * Stores the summary of a single element at the given position
+     */
+    void setLeaf(int slot, long value, long index) {
+        total[slot] = value;
+        prefix[slot] = value;
+        prefixEnd[slot] = index;
+        suffix[slot] = value;
+        suffixStart[slot] = index;
+        best[slot] = value;
+        bestStart[slot] = index;
+        bestEnd[slot] = index;
+    }
+
+    /**
+     * Stores the summary of nums[from, to) scanned in one pass; indices are absolute
+     */
+    void setRange(int slot, int[] nums, int from, int to) {
+        long running = 0;
+        long minPrefix = 0;
+        long minIndex = from;
+        long bestPrefix = Long.MIN_VALUE;
+        long bestPrefixEnd = from;
+        long bestSum = Long.MIN_VALUE;
+        long bestSumStart = from;
+        long bestSumEnd = from;
+
+        for (int i = from; i < to; i++) {
+            if (running < minPrefix) {
+                minPrefix = running;
+                minIndex = i;
+            }
+            running += nums[i];
+            if (running > bestPrefix) {
+                bestPrefix = running;
+                bestPrefixEnd = i;
+            }
+            long candidate = running - minPrefix;
+            if (candidate > bestSum) {
+                bestSum = candidate;
+                bestSumStart = minIndex;
+                bestSumEnd = i;
+            }
+        }
+
+        total[slot] = running;
+        prefix[slot] = bestPrefix;
+        prefixEnd[slot] = bestPrefixEnd;
+        suffix[slot] = running - minPrefix;
+        suffixStart[slot] = minIndex;
+        best[slot] = bestSum;
+        bestStart[slot] = bestSumStart;
+        bestEnd[slot] = bestSumEnd;
+    }
+
+    /**
+     * Buffer counterpart of the array scan above, using absolute gets so the buffer's
+     * position is untouched; indices are reported as baseIndex + (i - from)
+     */
+    void setRange(int slot, IntBuffer buffer, int from, int to, long baseIndex) {
+        long running = 0;
+        long minPrefix = 0;
+        long minIndex = baseIndex;
+        long bestPrefix = Long.MIN_VALUE;
+        long bestPrefixEnd = baseIndex;
+        long bestSum = Long.MIN_VALUE;
+        long bestSumStart = baseIndex;
+        long bestSumEnd = baseIndex;
+
+        long position = baseIndex;
+        for (int i = from; i < to; i++, position++) {
+            if (running < minPrefix) {
+                minPrefix = running;
+                minIndex = position;
+            }
+            running += buffer.get(i);
+            if (running > bestPrefix) {
+                bestPrefix = running;
+                bestPrefixEnd = position;
+            }
+            long candidate = running - minPrefix;
+            if (candidate > bestSum) {
+                bestSum = candidate;
+                bestSumStart = minIndex;
+                bestSumEnd = position;
+            }
+        }
+
+        total[slot] = running;
+        prefix[slot] = bestPrefix;
+        prefixEnd[slot] = bestPrefixEnd;
+        suffix[slot] = running - minPrefix;
+        suffixStart[slot] = minIndex;
+        best[slot] = bestSum;
+        bestStart[slot] = bestSumStart;
+        bestEnd[slot] = bestSumEnd;
+    }
+
+    /**
+     * Stores an existing summary object in a slot
+     */
+    void set(int slot, SegmentSummary summary) {
+        total[slot] = summary.getTotal();
+        prefix[slot] = summary.getBestPrefix();
+        prefixEnd[slot] = summary.getPrefixEnd();
+        suffix[slot] = summary.getBestSuffix();
+        suffixStart[slot] = summary.getSuffixStart();
+        best[slot] = summary.getBestSum();
+        bestStart[slot] = summary.getBestStart();
+        bestEnd[slot] = summary.getBestEnd();
+    }
+
+    SegmentSummary summary(int slot) {
+        return new SegmentSummary(total[slot], prefix[slot], prefixEnd[slot], suffix[slot], suffixStart[slot],
+                best[slot], bestStart[slot], bestEnd[slot]);
+    }
+
+    void copy(int dst, int src) {
+        copy(dst, this, src);
+    }
+
+    /**
+     * Copies a slot from another store
+     */
+    void copy(int dst, SummaryStore from, int src) {
+        total[dst] = from.total[src];
+        prefix[dst] = from.prefix[src];
+        prefixEnd[dst] = from.prefixEnd[src];
+        suffix[dst] = from.suffix[src];
+        suffixStart[dst] = from.suffixStart[src];
+        best[dst] = from.best[src];
+        bestStart[dst] = from.bestStart[src];
+        bestEnd[dst] = from.bestEnd[src];
+    }
+
+    /**
+     * Merges adjacent segments left and right into dst; dst may alias either input
+     */
+    void combine(int dst, int left, int right) {
+        combine(dst, this, left, this, right);
+    }
+
+    /**
+     * Merges adjacent segments held in (possibly different) stores into dst of this store
+     */
+    void combine(int dst, SummaryStore l, int left, SummaryStore r, int right) {
+        long newTotal = l.total[left] + r.total[right];
+
+        // Prefix ties keep the shorter prefix, suffix ties keep the longer suffix
+        long newPrefix = l.prefix[left];
+        long newPrefixEnd = l.prefixEnd[left];
+        long extendedPrefix = l.total[left] + r.prefix[right];
+        if (extendedPrefix > newPrefix) {
+            newPrefix = extendedPrefix;
+            newPrefixEnd = r.prefixEnd[right];
+        }
+
+        long newSuffix = r.suffix[right];
+        long newSuffixStart = r.suffixStart[right];
+        long extendedSuffix = r.total[right] + l.suffix[left];
+        if (extendedSuffix >= newSuffix) {
+            newSuffix = extendedSuffix;
+            newSuffixStart = l.suffixStart[left];
+        }
+
+        long newBest = l.best[left];
+        long newBestStart = l.bestStart[left];
+        long newBestEnd = l.bestEnd[left];
+
+        long crossing = l.suffix[left] + r.prefix[right];
+        if (isBetter(crossing, l.suffixStart[left], r.prefixEnd[right],
+                newBest, newBestStart, newBestEnd)) {
+            newBest = crossing;
+            newBestStart = l.suffixStart[left];
+            newBestEnd = r.prefixEnd[right];
+        }
+        if (isBetter(r.best[right], r.bestStart[right], r.bestEnd[right],
+                newBest, newBestStart, newBestEnd)) {
+            newBest = r.best[right];
+            newBestStart = r.bestStart[right];
+            newBestEnd = r.bestEnd[right];
+        }
+
+        total[dst] = newTotal;
+        prefix[dst] = newPrefix;
+        prefixEnd[dst] = newPrefixEnd;
+        suffix[dst] = newSuffix;
+        suffixStart[dst] = newSuffixStart;
+        best[dst] = newBest;
+        bestStart[dst] = newBestStart;
+        bestEnd[dst] = newBestEnd;
+    }
+
+    /**
+     * Ordering used for the best subarray: larger sum, then earlier end, then earlier start
+     */
+    static boolean isBetter(long sum, long start, long end, long otherSum, long otherStart, long otherEnd) {
+        if (sum != otherSum) {
+            return sum > otherSum;
+        }
+        if (end != otherEnd) {
+            return end < otherEnd;
+        }
+        return start < otherStart;
+    }
+
+    LongMaximumSubarrayResult toResult(int slot) {
+        return new LongMaximumSubarrayResult(best[slot], bestStart[slot], bestEnd[slot]);
+    }
+}
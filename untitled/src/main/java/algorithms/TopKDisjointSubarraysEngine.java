@@ -0,0 +1,140 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The k best non-overlapping subarrays, chosen greedily: take the maximum subarray,
+ * remove it, take the maximum subarray of what is left, and so on. This is exactly
+ * what masking the chosen segment and rescanning gives, without the O(n) rescans.
+ *
+ * Removing a segment splits its piece of the array into a left and a right piece.
+ * Each piece's best subarray comes from a {@link RangeMaxSubarrayIndex} query and
+ * the pieces wait in a primitive max-heap, so every step costs one pop and at most
+ * two range queries. Ties are broken like the rescan: smaller end index first.
+ *
+ * Once the positive segments run out the greedy order continues with the best
+ * remaining non-positive ones; callers that only want gains can stop at the first
+ * sum <= 0. Fewer than k entries are returned when the array is used up.
+ *
+ * Time Complexity: O(n / p) build + O(k * (log(n / B) + B + log k))
+ * Space Complexity: O(n / B) for the index + O(k) for pieces and results
+ */
+public class TopKDisjointSubarraysEngine {
+    /** Coarser than the index default: keeps the index small for very large arrays */
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final int blockSize;
+
+    public TopKDisjointSubarraysEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE);
+    }
+
+    public TopKDisjointSubarraysEngine(ForkJoinPool pool, int blockSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.pool = pool;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Builds an index over nums and returns up to k disjoint segments in greedy order
+     */
+    public SubarrayResults findTopK(int[] nums, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        return findTopK(new RangeMaxSubarrayIndex(nums, blockSize, pool), k);
+    }
+
+    /**
+     * Returns up to k disjoint segments in greedy order using an existing index
+     */
+    public SubarrayResults findTopK(RangeMaxSubarrayIndex index, int k) {
+        if (index == null) {
+            throw new IllegalArgumentException("Index cannot be null");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+
+        int limit = Math.min(k, index.size());
+        long[] sums = new long[limit];
+        int[] starts = new int[limit];
+        int[] ends = new int[limit];
+
+        // Every step retires one piece and adds at most two
+        Pieces pieces = new Pieces(index, (int) Math.min(2L * limit + 1, Integer.MAX_VALUE));
+        pieces.add(0, index.size() - 1);
+
+        int count = 0;
+        while (count < limit && !pieces.heap.isEmpty()) {
+            int piece = pieces.heap.topPayload();
+            pieces.heap.pop();
+
+            int start = pieces.bestStart[piece];
+            int end = pieces.bestEnd[piece];
+            sums[count] = pieces.bestSum[piece];
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+
+            if (pieces.from[piece] < start) {
+                pieces.add(pieces.from[piece], start - 1);
+            }
+            if (end < pieces.to[piece]) {
+                pieces.add(end + 1, pieces.to[piece]);
+            }
+        }
+
+        if (count < limit) {
+            return new SubarrayResults(Arrays.copyOf(sums, count),
+                                       Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+        }
+        return new SubarrayResults(sums, starts, ends);
+    }
+
+    public ForkJoinPool getPool() { return pool; }
+    public int getBlockSize() { return blockSize; }
+
+    /**
+     * Remaining pieces of the array, each with its best subarray, keyed in a heap
+     */
+    private static final class Pieces {
+        final RangeMaxSubarrayIndex index;
+        final SummaryStore scratch = new SummaryStore(RangeMaxSubarrayIndex.SCRATCH_SLOTS);
+        final LongIndexHeap heap;
+        final int[] from;
+        final int[] to;
+        final long[] bestSum;
+        final int[] bestStart;
+        final int[] bestEnd;
+        int count;
+
+        Pieces(RangeMaxSubarrayIndex index, int capacity) {
+            this.index = index;
+            this.heap = new LongIndexHeap(Math.min(capacity, 1 << 10));
+            this.from = new int[capacity];
+            this.to = new int[capacity];
+            this.bestSum = new long[capacity];
+            this.bestStart = new int[capacity];
+            this.bestEnd = new int[capacity];
+        }
+
+        void add(int l, int r) {
+            index.queryInto(l, r, scratch);
+            int piece = count++;
+            from[piece] = l;
+            to[piece] = r;
+            bestSum[piece] = scratch.best[RangeMaxSubarrayIndex.LEFT];
+            bestStart[piece] = (int) scratch.bestStart[RangeMaxSubarrayIndex.LEFT];
+            bestEnd[piece] = (int) scratch.bestEnd[RangeMaxSubarrayIndex.LEFT];
+            heap.push(bestSum[piece], bestEnd[piece], piece);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Enumerates the sums of all O(n^2) subarrays, overlapping allowed, from largest
+ * to smallest, producing only as many as the caller consumes.
+ *
+ * With prefix sums P, the subarray [i, e - 1] has sum P[e] - P[i]. For each end e
+ * the best start is the argmin of P over [0, e - 1], so one candidate per end
+ * seeds a primitive max-heap. Popping candidate (e, lo, hi, i) emits [i, e - 1]
+ * and pushes the best starts of [lo, i - 1] and [i + 1, hi], found with an
+ * argmin segment tree over P. Every subarray is reachable exactly once.
+ *
+ * Order is by sum descending, then end ascending, then start ascending.
+ *
+ * Time Complexity: O(n log n) setup + O(log n) per emitted subarray
+ * Space Complexity: O(n + k) longs and ints, no boxing
+ */
+public class TopKSubarraySumsEngine {
+
+    /**
+     * Emits subarrays in descending sum order until k have been emitted, all of them
+     * have, or the consumer returns false
+     *
+     * @return the number of subarrays passed to the consumer
+     */
+    public long forEachLargest(int[] nums, long k, SubarrayConsumer consumer) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+
+        int n = nums.length;
+        long[] prefix = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            prefix[i + 1] = prefix[i] + nums[i];
+        }
+        ArgMinTree tree = new ArgMinTree(prefix);
+        Candidates candidates = new Candidates(n);
+
+        // Seed one candidate per end, tracking the running argmin of the prefix
+        int argMin = 0;
+        for (int end = 1; end <= n; end++) {
+            if (prefix[end - 1] < prefix[argMin]) {
+                argMin = end - 1;
+            }
+            candidates.push(prefix, end, 0, end - 1, argMin);
+        }
+
+        LongIndexHeap heap = candidates.heap;
+        long emitted = 0;
+        while (emitted < k && !heap.isEmpty()) {
+            int slot = heap.topPayload();
+            heap.pop();
+
+            int end = candidates.end[slot];
+            int lo = candidates.lo[slot];
+            int hi = candidates.hi[slot];
+            int start = candidates.argMin[slot];
+            emitted++;
+            if (!consumer.accept(prefix[end] - prefix[start], start, end - 1)) {
+                break;
+            }
+
+            candidates.release(slot);
+            if (lo < start) {
+                candidates.push(prefix, end, lo, start - 1, tree.argMin(lo, start - 1));
+            }
+            if (start < hi) {
+                candidates.push(prefix, end, start + 1, hi, tree.argMin(start + 1, hi));
+            }
+        }
+        return emitted;
+    }
+
+    /**
+     * The k largest subarray sums (fewer if the array has fewer subarrays)
+     */
+    public SubarrayResults findTopK(int[] nums, int k) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        int limit = (int) Math.min(k, (long) nums.length * (nums.length + 1) / 2);
+        long[] sums = new long[Math.max(limit, 0)];
+        int[] starts = new int[sums.length];
+        int[] ends = new int[sums.length];
+        int[] count = new int[1];
+
+        forEachLargest(nums, k, (sum, start, end) -> {
+            sums[count[0]] = sum;
+            starts[count[0]] = start;
+            ends[count[0]] = end;
+            count[0]++;
+            return true;
+        });
+        return new SubarrayResults(sums, starts, ends);
+    }
+
+    /**
+     * Pending (end, lo, hi, argMin) candidates in growable parallel arrays; the
+     * slots of emitted candidates are recycled through a free list
+     */
+    private static final class Candidates {
+        final LongIndexHeap heap;
+        int[] end;
+        int[] lo;
+        int[] hi;
+        int[] argMin;
+        int[] free;
+        int freeCount;
+        int used;
+
+        Candidates(int initialCapacity) {
+            heap = new LongIndexHeap(initialCapacity);
+            end = new int[initialCapacity];
+            lo = new int[initialCapacity];
+            hi = new int[initialCapacity];
+            argMin = new int[initialCapacity];
+            free = new int[initialCapacity];
+        }
+
+        void push(long[] prefix, int e, int l, int h, int m) {
+            int slot;
+            if (freeCount > 0) {
+                slot = free[--freeCount];
+            } else {
+                if (used == end.length) {
+                    int capacity = used + (used >> 1) + 1;
+                    end = Arrays.copyOf(end, capacity);
+                    lo = Arrays.copyOf(lo, capacity);
+                    hi = Arrays.copyOf(hi, capacity);
+                    argMin = Arrays.copyOf(argMin, capacity);
+                }
+                slot = used++;
+            }
+            end[slot] = e;
+            lo[slot] = l;
+            hi[slot] = h;
+            argMin[slot] = m;
+            // Ties: smaller end first, then smaller start
+            heap.push(prefix[e] - prefix[m], ((long) e << 32) | m, slot);
+        }
+
+        void release(int slot) {
+            if (freeCount == free.length) {
+                free = Arrays.copyOf(free, freeCount + (freeCount >> 1) + 1);
+            }
+            free[freeCount++] = slot;
+        }
+    }
+
+    /**
+     * Bottom-up segment tree over prefix positions answering "index of the minimum
+     * in [l, r]", smaller index on ties
+     */
+    private static final class ArgMinTree {
+        private final long[] values;
+        private final int[] nodes;
+        private final int size;
+
+        ArgMinTree(long[] values) {
+            this.values = values;
+            this.size = values.length;
+            this.nodes = new int[2 * size];
+            for (int i = 0; i < size; i++) {
+                nodes[size + i] = i;
+            }
+            for (int node = size - 1; node >= 1; node--) {
+                nodes[node] = min(nodes[2 * node], nodes[2 * node + 1]);
+            }
+        }
+
+        int argMin(int l, int r) {
+            int best = l;
+            for (l += size, r += size + 1; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) != 0) {
+                    best = min(best, nodes[l++]);
+                }
+                if ((r & 1) != 0) {
+                    best = min(best, nodes[--r]);
+                }
+            }
+            return best;
+        }
+
+        private int min(int a, int b) {
+            if (values[a] != values[b]) {
+                return values[a] < values[b] ? a : b;
+            }
+            return Math.min(a, b);
+        }
+    }
+}
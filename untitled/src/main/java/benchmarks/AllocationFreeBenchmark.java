@@ -0,0 +1,74 @@
+package benchmarks;
+
+import algorithms.FastKadaneEngine;
+import algorithms.MutableSubarrayResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result allocation on small arrays: allocating scan versus holder, flat slot and
+ * packed variants. Run with {@code -prof gc}; the last three should report
+ * ~0 B/op in gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class AllocationFreeBenchmark {
+
+    private static final int ARRAYS = 1024;
+
+    @State(Scope.Thread)
+    public static class SmallArrays {
+        @Param({"16", "256"})
+        int size;
+
+        int[][] arrays;
+        int next;
+        FastKadaneEngine engine;
+        MutableSubarrayResult holder;
+        long[] slots;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            arrays = new int[ARRAYS][size];
+            for (int[] array : arrays) {
+                for (int i = 0; i < size; i++) {
+                    array[i] = random.nextInt(201) - 100;
+                }
+            }
+            engine = new FastKadaneEngine();
+            holder = new MutableSubarrayResult();
+            slots = new long[3 * ARRAYS];
+        }
+    }
+
+    @Benchmark
+    public void benchmarkAllocatingResult(SmallArrays state, Blackhole bh) {
+        bh.consume(state.engine.findMaximumSubarray(state.arrays[state.next++ & (ARRAYS - 1)]));
+    }
+
+    @Benchmark
+    public long benchmarkReusedHolder(SmallArrays state) {
+        state.engine.findMaximumSubarray(state.arrays[state.next++ & (ARRAYS - 1)], state.holder);
+        return state.holder.getMaxSum();
+    }
+
+    @Benchmark
+    public long benchmarkFlatSlot(SmallArrays state) {
+        int slot = state.next++ & (ARRAYS - 1);
+        state.engine.findMaximumSubarray(state.arrays[slot], state.slots, slot);
+        return state.slots[3 * slot];
+    }
+
+    @Benchmark
+    public long benchmarkPacked(SmallArrays state) {
+        return state.engine.findMaximumSubarrayPacked(state.arrays[state.next++ & (ARRAYS - 1)]);
+    }
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import algorithms.AppendableKadane;
+import algorithms.FastKadaneEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of keeping the answer current while an array grows at the tail, for arrays
+ * already holding n values. Each measured batch appends {@value #BATCH} values one
+ * at a time and reads the best sum after each; the incremental handle should be
+ * flat in n, while rescanning the whole array (wrapped in place, no copy) grows
+ * linearly with it.
+ * Scores are per batch, so divide by BATCH for the per-append cost.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = AppendableKadaneBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = AppendableKadaneBenchmark.BATCH)
+@Fork(1)
+@State(Scope.Thread)
+public class AppendableKadaneBenchmark {
+
+    static final int BATCH = 1000;
+
+    @State(Scope.Thread)
+    public static class GrowingArray {
+        @Param({"1000", "100000", "1000000"})
+        int n;
+
+        int[] initial;
+        int[] feed;
+        int next;
+        AppendableKadane handle;
+        int[] rescanBuffer;
+        int rescanSize;
+        FastKadaneEngine engine;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            initial = new int[n];
+            for (int i = 0; i < n; i++) {
+                initial[i] = random.nextInt(201) - 100;
+            }
+            feed = new int[BATCH];
+            for (int i = 0; i < BATCH; i++) {
+                feed[i] = random.nextInt(201) - 100;
+            }
+            engine = new FastKadaneEngine();
+        }
+
+        // Every batch starts again from n values, with room for the whole batch
+        @Setup(Level.Iteration)
+        public void resetArrays() {
+            handle = new AppendableKadane(n + BATCH);
+            handle.append(initial);
+            rescanBuffer = Arrays.copyOf(initial, n + BATCH);
+            rescanSize = n;
+            next = 0;
+        }
+    }
+
+    @Benchmark
+    public long benchmarkIncrementalAppend(GrowingArray state) {
+        state.handle.append(state.feed[state.next++]);
+        return state.handle.getMaxSum();
+    }
+
+    @Benchmark
+    public long benchmarkAppendAndRescan(GrowingArray state) {
+        state.rescanBuffer[state.rescanSize++] = state.feed[state.next++];
+        return state.engine.findMaximumSubarray(
+                IntBuffer.wrap(state.rescanBuffer, 0, state.rescanSize)).getMaxSum();
+    }
+}
@@ -0,0 +1,59 @@
+package benchmarks;
+
+import algorithms.BatchKadaneEngine;
+import algorithms.FastKadaneEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tens of thousands of skewed-size arrays: parallel longest-first batch versus a sequential loop
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class BatchKadaneBenchmark {
+
+    @State(Scope.Thread)
+    public static class BatchState {
+        @Param({"10000", "50000"})
+        int arrayCount;
+
+        int[][] arrays;
+        BatchKadaneEngine batchEngine;
+        FastKadaneEngine fastEngine;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            arrays = new int[arrayCount][];
+            for (int k = 0; k < arrayCount; k++) {
+                // Mostly small arrays with an occasional large one
+                int size = random.nextInt(100) == 0 ? 100_000 : 100 + random.nextInt(1000);
+                arrays[k] = new int[size];
+                for (int i = 0; i < size; i++) {
+                    arrays[k][i] = random.nextInt(201) - 100;
+                }
+            }
+            batchEngine = new BatchKadaneEngine();
+            fastEngine = new FastKadaneEngine();
+        }
+    }
+
+    @Benchmark
+    public void benchmarkParallelBatch(BatchState state, Blackhole bh) {
+        bh.consume(state.batchEngine.run(state.arrays));
+    }
+
+    @Benchmark
+    public void benchmarkSequentialLoop(BatchState state, Blackhole bh) {
+        for (int[] array : state.arrays) {
+            bh.consume(state.fastEngine.findMaximumSubarray(array));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package benchmarks;
+
+import algorithms.BatchRangeQueryEngine;
+import algorithms.RangeMaxSubarrayIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offline batch of range queries: bucketed parallel batch versus one query at a time
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchRangeQueryBenchmark {
+
+    @State(Scope.Thread)
+    public static class BatchState {
+        @Param({"1000000"})
+        int size;
+
+        @Param({"100000", "1000000"})
+        int queries;
+
+        RangeMaxSubarrayIndex index;
+        BatchRangeQueryEngine engine;
+        int[] left;
+        int[] right;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            int[] data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(201) - 100;
+            }
+            left = new int[queries];
+            right = new int[queries];
+            for (int q = 0; q < queries; q++) {
+                left[q] = random.nextInt(size);
+                right[q] = left[q] + random.nextInt(size - left[q]);
+            }
+            index = new RangeMaxSubarrayIndex(data);
+            engine = new BatchRangeQueryEngine();
+        }
+    }
+
+    @Benchmark
+    public void benchmarkBatch(BatchState state, Blackhole bh) {
+        bh.consume(state.engine.query(state.index, state.left, state.right));
+    }
+
+    @Benchmark
+    public void benchmarkOneByOne(BatchState state, Blackhole bh) {
+        long[] sums = new long[state.queries];
+        for (int q = 0; q < state.queries; q++) {
+            sums[q] = state.index.querySum(state.left[q], state.right[q]);
+        }
+        bh.consume(sums);
+    }
+}
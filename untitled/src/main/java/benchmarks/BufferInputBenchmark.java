@@ -0,0 +1,79 @@
+package benchmarks;
+
+import algorithms.FastKadaneEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scan throughput over a heap array, heap buffers and direct buffers
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class BufferInputBenchmark {
+
+    @State(Scope.Thread)
+    public static class BufferState {
+        @Param({"10000", "1000000"})
+        int size;
+
+        FastKadaneEngine engine;
+        int[] array;
+        IntBuffer heapIntBuffer;
+        IntBuffer directIntBuffer;
+        ByteBuffer heapByteBuffer;
+        ByteBuffer directByteBuffer;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            engine = new FastKadaneEngine();
+
+            Random random = new Random(42);
+            array = new int[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt(201) - 100;
+            }
+
+            heapIntBuffer = IntBuffer.wrap(array);
+            heapByteBuffer = ByteBuffer.allocate(size * Integer.BYTES).order(ByteOrder.nativeOrder());
+            heapByteBuffer.asIntBuffer().put(array);
+            directByteBuffer = ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder());
+            directByteBuffer.asIntBuffer().put(array);
+            directIntBuffer = directByteBuffer.asIntBuffer();
+        }
+    }
+
+    @Benchmark
+    public void benchmarkHeapArray(BufferState state, Blackhole blackhole) {
+        blackhole.consume(state.engine.findMaximumSubarray(state.array));
+    }
+
+    @Benchmark
+    public void benchmarkHeapIntBuffer(BufferState state, Blackhole blackhole) {
+        blackhole.consume(state.engine.findMaximumSubarray(state.heapIntBuffer));
+    }
+
+    @Benchmark
+    public void benchmarkDirectIntBuffer(BufferState state, Blackhole blackhole) {
+        blackhole.consume(state.engine.findMaximumSubarray(state.directIntBuffer));
+    }
+
+    @Benchmark
+    public void benchmarkHeapByteBuffer(BufferState state, Blackhole blackhole) {
+        blackhole.consume(state.engine.findMaximumSubarray(state.heapByteBuffer));
+    }
+
+    @Benchmark
+    public void benchmarkDirectByteBuffer(BufferState state, Blackhole blackhole) {
+        blackhole.consume(state.engine.findMaximumSubarray(state.directByteBuffer));
+    }
+}
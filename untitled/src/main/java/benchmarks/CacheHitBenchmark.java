@@ -0,0 +1,71 @@
+package benchmarks;
+
+import algorithms.CachingEngine;
+import algorithms.FastKadaneEngine;
+import metrics.PerformanceTracker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hit-path latency of the result cache against an uncached scan. Content hits
+ * cost a sampled hash plus Arrays.equals; identity hits cost one map lookup and
+ * should stay flat as the array grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class CacheHitBenchmark {
+
+    private static final int ARRAYS = 64;
+
+    @State(Scope.Thread)
+    public static class RepeatedArrays {
+        @Param({"100", "10000", "1000000"})
+        int size;
+
+        int[][] arrays;
+        int next;
+        FastKadaneEngine engine;
+        CachingEngine cache;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            arrays = new int[ARRAYS][size];
+            for (int[] array : arrays) {
+                for (int i = 0; i < size; i++) {
+                    array[i] = random.nextInt(201) - 100;
+                }
+            }
+            engine = new FastKadaneEngine();
+            cache = new CachingEngine(engine, 2 * ARRAYS, 4L * ARRAYS * size,
+                    new PerformanceTracker("CacheHitBenchmark"));
+            // Warm both key spaces so every measured call is a hit
+            for (int[] array : arrays) {
+                cache.findMaximumSubarray(array);
+                cache.findMaximumSubarray(array, 0L);
+            }
+        }
+    }
+
+    @Benchmark
+    public void benchmarkUncached(RepeatedArrays state, Blackhole bh) {
+        bh.consume(state.engine.findMaximumSubarray(state.arrays[state.next++ & (ARRAYS - 1)]));
+    }
+
+    @Benchmark
+    public void benchmarkContentHit(RepeatedArrays state, Blackhole bh) {
+        bh.consume(state.cache.findMaximumSubarray(state.arrays[state.next++ & (ARRAYS - 1)]));
+    }
+
+    @Benchmark
+    public void benchmarkIdentityHit(RepeatedArrays state, Blackhole bh) {
+        bh.consume(state.cache.findMaximumSubarray(state.arrays[state.next++ & (ARRAYS - 1)], 0L));
+    }
+}
@@ -0,0 +1,67 @@
+package benchmarks;
+
+import algorithms.CircularKadaneEngine;
+import algorithms.FastKadaneEngine;
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circular maximum subarray: single-pass engine versus two scans over the array
+ * and a negated copy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class CircularKadaneBenchmark {
+
+    @State(Scope.Thread)
+    public static class RingState {
+        @Param({"1000", "100000", "10000000"})
+        int size;
+
+        int[] data;
+        CircularKadaneEngine circularEngine;
+        FastKadaneEngine fastEngine;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(201) - 100;
+            }
+            circularEngine = new CircularKadaneEngine();
+            fastEngine = new FastKadaneEngine();
+        }
+    }
+
+    @Benchmark
+    public void benchmarkSinglePass(RingState state, Blackhole bh) {
+        bh.consume(state.circularEngine.findMaximumSubarray(state.data));
+    }
+
+    @Benchmark
+    public long benchmarkTwoPassNegatedCopy(RingState state) {
+        int[] data = state.data;
+        MaximumSubarrayResult max = state.fastEngine.findMaximumSubarray(data);
+
+        long total = 0;
+        int[] negated = new int[data.length];
+        for (int i = 0; i < data.length; i++) {
+            total += data[i];
+            negated[i] = -data[i];
+        }
+        MaximumSubarrayResult negatedMax = state.fastEngine.findMaximumSubarray(negated);
+
+        boolean wholeArray = negatedMax.getStartIndex() == 0 && negatedMax.getEndIndex() == data.length - 1;
+        long wrapped = total + negatedMax.getMaxSum();
+        return wholeArray ? max.getMaxSum() : Math.max(max.getMaxSum(), wrapped);
+    }
+}
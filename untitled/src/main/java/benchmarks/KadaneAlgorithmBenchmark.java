@@ -1,6 +1,9 @@
 package benchmarks;
 
+import algorithms.FastKadaneEngine;
 import algorithms.KadaneAlgorithm;
+import algorithms.OverflowSafeKadaneEngine;
+import algorithms.PrimitiveKadane;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
@@ -26,6 +29,8 @@ public class KadaneAlgorithmBenchmark {
     @State(Scope.Thread)
     public static class AlgorithmState {
         KadaneAlgorithm kadane;
+        FastKadaneEngine fastEngine;
+        OverflowSafeKadaneEngine overflowSafeEngine;
         int[] smallRandomArray;
         int[] mediumRandomArray;
         int[] largeRandomArray;
@@ -33,12 +38,19 @@ public class KadaneAlgorithmBenchmark {
         int[] allNegativeArray;
         int[] sortedArray;
         int[] worstCaseArray;
+        long[] mediumLongArray;
+        double[] mediumDoubleArray;
+        float[] mediumFloatArray;
+        short[] mediumShortArray;
+        byte[] mediumByteArray;
 
         Random random = new Random(42); // Fixed seed for reproducibility
 
         @Setup(Level.Trial)
         public void setUp() {
             kadane = new KadaneAlgorithm();
+            fastEngine = new FastKadaneEngine();
+            overflowSafeEngine = new OverflowSafeKadaneEngine();
 
             // Generate test arrays
             smallRandomArray = generateRandomArray(100, -100, 100);
@@ -48,6 +60,20 @@ public class KadaneAlgorithmBenchmark {
             allNegativeArray = generateRandomArray(10_000, -100, -1);
             sortedArray = generateSortedArray(10_000);
             worstCaseArray = generateWorstCaseArray(10_000);
+
+            // Same values as mediumRandomArray in each primitive type; bytes are scaled to fit
+            mediumLongArray = new long[mediumRandomArray.length];
+            mediumDoubleArray = new double[mediumRandomArray.length];
+            mediumFloatArray = new float[mediumRandomArray.length];
+            mediumShortArray = new short[mediumRandomArray.length];
+            mediumByteArray = new byte[mediumRandomArray.length];
+            for (int i = 0; i < mediumRandomArray.length; i++) {
+                mediumLongArray[i] = mediumRandomArray[i];
+                mediumDoubleArray[i] = mediumRandomArray[i];
+                mediumFloatArray[i] = mediumRandomArray[i];
+                mediumShortArray[i] = (short) mediumRandomArray[i];
+                mediumByteArray[i] = (byte) (mediumRandomArray[i] / 10);
+            }
         }
 
         private int[] generateRandomArray(int size, int min, int max) {
@@ -125,6 +151,49 @@ public class KadaneAlgorithmBenchmark {
         blackhole.consume(result);
     }
 
+    @Benchmark
+    public void benchmarkFastEngineMediumArray(AlgorithmState state, Blackhole blackhole) {
+        var result = state.fastEngine.findMaximumSubarray(state.mediumRandomArray);
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void benchmarkFastEngineLargeArray(AlgorithmState state, Blackhole blackhole) {
+        var result = state.fastEngine.findMaximumSubarray(state.largeRandomArray);
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void benchmarkOverflowSafeEngineLargeArray(AlgorithmState state, Blackhole blackhole) {
+        var result = state.overflowSafeEngine.findMaximumSubarrayLong(state.largeRandomArray);
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void benchmarkLongArray(AlgorithmState state, Blackhole blackhole) {
+        blackhole.consume(PrimitiveKadane.findMaximumSubarray(state.mediumLongArray));
+    }
+
+    @Benchmark
+    public void benchmarkDoubleArray(AlgorithmState state, Blackhole blackhole) {
+        blackhole.consume(PrimitiveKadane.findMaximumSubarray(state.mediumDoubleArray));
+    }
+
+    @Benchmark
+    public void benchmarkFloatArray(AlgorithmState state, Blackhole blackhole) {
+        blackhole.consume(PrimitiveKadane.findMaximumSubarray(state.mediumFloatArray));
+    }
+
+    @Benchmark
+    public void benchmarkShortArray(AlgorithmState state, Blackhole blackhole) {
+        blackhole.consume(PrimitiveKadane.findMaximumSubarray(state.mediumShortArray));
+    }
+
+    @Benchmark
+    public void benchmarkByteArray(AlgorithmState state, Blackhole blackhole) {
+        blackhole.consume(PrimitiveKadane.findMaximumSubarray(state.mediumByteArray));
+    }
+
     // Main method to run benchmarks
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
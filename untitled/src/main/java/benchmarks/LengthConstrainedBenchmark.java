@@ -0,0 +1,62 @@
+package benchmarks;
+
+import algorithms.LengthConstrainedKadaneEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Length-constrained maximum subarray across minimum/maximum length ratios,
+ * sequential scan versus parallel chunks
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class LengthConstrainedBenchmark {
+
+    @State(Scope.Thread)
+    public static class BoundsState {
+        @Param({"10000000"})
+        int size;
+
+        // minLength:maxLength
+        @Param({"16:16", "16:64", "100:1000", "1000:100000", "1:10000000"})
+        String bounds;
+
+        int[] data;
+        LengthConstrainedKadaneEngine sequentialEngine;
+        LengthConstrainedKadaneEngine parallelEngine;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String[] parts = bounds.split(":");
+            int minLength = Integer.parseInt(parts[0]);
+            int maxLength = Integer.parseInt(parts[1]);
+            sequentialEngine = new LengthConstrainedKadaneEngine(minLength, maxLength);
+            parallelEngine = new LengthConstrainedKadaneEngine(minLength, maxLength, ForkJoinPool.commonPool(),
+                                                               LengthConstrainedKadaneEngine.DEFAULT_THRESHOLD);
+
+            Random random = new Random(42);
+            data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(201) - 100;
+            }
+        }
+    }
+
+    @Benchmark
+    public void benchmarkSequential(BoundsState state, Blackhole blackhole) {
+        blackhole.consume(state.sequentialEngine.findMaximumSubarray(state.data));
+    }
+
+    @Benchmark
+    public void benchmarkParallel(BoundsState state, Blackhole blackhole) {
+        blackhole.consume(state.parallelEngine.findMaximumSubarray(state.data));
+    }
+}
@@ -0,0 +1,93 @@
+package benchmarks;
+
+import algorithms.MutableRangeMaxSubarrayIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the mutable range index under mixed update/query workloads,
+ * and of bulk corrections versus the same corrections applied one at a time
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class MutableRangeIndexBenchmark {
+
+    private static final int OPERATIONS = 1 << 12;
+    private static final int BATCH = 1024;
+
+    @State(Scope.Thread)
+    public static class IndexState {
+        @Param({"100000", "1000000"})
+        int size;
+
+        @Param({"10", "50", "90"})
+        int updatePercent;
+
+        MutableRangeMaxSubarrayIndex index;
+        boolean[] isUpdate;
+        int[] first;
+        int[] second;
+        int[] batchIndices;
+        int[] batchValues;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            int[] data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(201) - 100;
+            }
+            index = new MutableRangeMaxSubarrayIndex(data);
+
+            // Updates use (position, value); queries use (l, r)
+            isUpdate = new boolean[OPERATIONS];
+            first = new int[OPERATIONS];
+            second = new int[OPERATIONS];
+            for (int op = 0; op < OPERATIONS; op++) {
+                isUpdate[op] = random.nextInt(100) < updatePercent;
+                first[op] = random.nextInt(size);
+                second[op] = isUpdate[op]
+                        ? random.nextInt(201) - 100
+                        : first[op] + random.nextInt(size - first[op]);
+            }
+
+            batchIndices = new int[BATCH];
+            batchValues = new int[BATCH];
+            for (int k = 0; k < BATCH; k++) {
+                batchIndices[k] = random.nextInt(size);
+                batchValues[k] = random.nextInt(201) - 100;
+            }
+        }
+    }
+
+    @Benchmark
+    public long benchmarkMixedWorkload(IndexState state) {
+        int op = state.next++ & (OPERATIONS - 1);
+        if (state.isUpdate[op]) {
+            state.index.update(state.first[op], state.second[op]);
+            return 0;
+        }
+        return state.index.querySum(state.first[op], state.second[op]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void benchmarkBulkUpdate(IndexState state) {
+        state.index.updateAll(state.batchIndices, state.batchValues);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void benchmarkPointUpdates(IndexState state) {
+        for (int k = 0; k < BATCH; k++) {
+            state.index.update(state.batchIndices[k], state.batchValues[k]);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import algorithms.FastKadaneEngine;
+import algorithms.ParallelKadaneEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the ForkJoin engine scales with worker count on large arrays
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class ParallelScalabilityBenchmark {
+
+    @State(Scope.Thread)
+    public static class ParallelState {
+        @Param({"1000000", "50000000"})
+        int size;
+
+        @Param({"1", "2", "4", "8"})
+        int parallelism;
+
+        ForkJoinPool pool;
+        ParallelKadaneEngine parallelEngine;
+        FastKadaneEngine sequentialEngine;
+        int[] array;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            pool = new ForkJoinPool(parallelism);
+            parallelEngine = new ParallelKadaneEngine(pool);
+            sequentialEngine = new FastKadaneEngine();
+
+            Random random = new Random(42);
+            array = new int[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt(201) - 100;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void benchmarkSequential(ParallelState state, Blackhole blackhole) {
+        blackhole.consume(state.sequentialEngine.findMaximumSubarray(state.array));
+    }
+
+    @Benchmark
+    public void benchmarkParallel(ParallelState state, Blackhole blackhole) {
+        blackhole.consume(state.parallelEngine.findMaximumSubarray(state.array));
+    }
+}
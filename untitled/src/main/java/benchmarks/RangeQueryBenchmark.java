@@ -0,0 +1,76 @@
+package benchmarks;
+
+import algorithms.FastKadaneEngine;
+import algorithms.RangeMaxSubarrayIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range maximum-subarray queries: segment-tree index versus copying and rescanning the range
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class RangeQueryBenchmark {
+
+    private static final int QUERIES = 1 << 12;
+
+    @State(Scope.Thread)
+    public static class QueryState {
+        @Param({"10000", "1000000"})
+        int size;
+
+        @Param({"32", "64", "256"})
+        int blockSize;
+
+        int[] data;
+        int[] left;
+        int[] right;
+        RangeMaxSubarrayIndex index;
+        FastKadaneEngine engine;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(201) - 100;
+            }
+            left = new int[QUERIES];
+            right = new int[QUERIES];
+            for (int q = 0; q < QUERIES; q++) {
+                int l = random.nextInt(size);
+                left[q] = l;
+                right[q] = l + random.nextInt(size - l);
+            }
+            index = new RangeMaxSubarrayIndex(data, blockSize);
+            engine = new FastKadaneEngine();
+        }
+    }
+
+    @Benchmark
+    public long benchmarkIndexQuery(QueryState state) {
+        int q = state.next++ & (QUERIES - 1);
+        return state.index.querySum(state.left[q], state.right[q]);
+    }
+
+    @Benchmark
+    public void benchmarkRescan(QueryState state, Blackhole bh) {
+        int q = state.next++ & (QUERIES - 1);
+        bh.consume(state.engine.findMaximumSubarray(
+                Arrays.copyOfRange(state.data, state.left[q], state.right[q] + 1)));
+    }
+
+    @Benchmark
+    public RangeMaxSubarrayIndex benchmarkBuild(QueryState state) {
+        return new RangeMaxSubarrayIndex(state.data, state.blockSize);
+    }
+}
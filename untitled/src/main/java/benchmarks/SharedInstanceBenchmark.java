@@ -0,0 +1,66 @@
+package benchmarks;
+
+import algorithms.KadaneAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one tracked KadaneAlgorithm instance shared by several threads
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SharedInstanceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedState {
+        KadaneAlgorithm kadane;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            // Fresh instance per iteration so the recorded history stays bounded
+            kadane = new KadaneAlgorithm();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class InputState {
+        @Param({"100", "10000"})
+        int size;
+
+        int[] array;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            array = new int[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt(201) - 100;
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void benchmarkOneThread(SharedState shared, InputState input, Blackhole bh) {
+        bh.consume(shared.kadane.findMaximumSubarray(input.array));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void benchmarkFourThreads(SharedState shared, InputState input, Blackhole bh) {
+        bh.consume(shared.kadane.findMaximumSubarray(input.array));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void benchmarkEightThreads(SharedState shared, InputState input, Blackhole bh) {
+        bh.consume(shared.kadane.findMaximumSubarray(input.array));
+    }
+}
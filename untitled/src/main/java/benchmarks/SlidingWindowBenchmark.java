@@ -0,0 +1,51 @@
+package benchmarks;
+
+import algorithms.SlidingWindowKadane;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick latency of the sliding-window structure (push one value, read the best sum)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class SlidingWindowBenchmark {
+
+    @State(Scope.Thread)
+    public static class WindowState {
+        @Param({"1000", "10000", "100000", "1000000"})
+        int windowSize;
+
+        SlidingWindowKadane window;
+        int[] feed;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            feed = new int[1 << 20];
+            for (int i = 0; i < feed.length; i++) {
+                feed[i] = random.nextInt(201) - 100;
+            }
+
+            // Start with a full window so every tick also evicts
+            window = new SlidingWindowKadane(windowSize);
+            for (int i = 0; i < windowSize; i++) {
+                window.push(feed[i & (feed.length - 1)]);
+            }
+            next = windowSize;
+        }
+    }
+
+    @Benchmark
+    public long benchmarkTick(WindowState state) {
+        state.window.push(state.feed[state.next++ & (state.feed.length - 1)]);
+        return state.window.getMaxSum();
+    }
+}
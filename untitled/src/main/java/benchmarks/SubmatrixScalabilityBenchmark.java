@@ -0,0 +1,62 @@
+package benchmarks;
+
+import algorithms.MaximumSubmatrixEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the 2D maximum-sum rectangle search scales with grid shape and worker count
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class SubmatrixScalabilityBenchmark {
+
+    @State(Scope.Thread)
+    public static class GridState {
+        @Param({"256x256", "512x512", "128x4096", "4096x128"})
+        String shape;
+
+        @Param({"1", "2", "4", "8"})
+        int parallelism;
+
+        ForkJoinPool pool;
+        MaximumSubmatrixEngine engine;
+        int[] grid;
+        int rows;
+        int columns;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String[] dimensions = shape.split("x");
+            rows = Integer.parseInt(dimensions[0]);
+            columns = Integer.parseInt(dimensions[1]);
+
+            pool = new ForkJoinPool(parallelism);
+            engine = new MaximumSubmatrixEngine(pool);
+
+            Random random = new Random(42);
+            grid = new int[rows * columns];
+            for (int i = 0; i < grid.length; i++) {
+                grid[i] = random.nextInt(201) - 100;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void benchmarkSubmatrix(GridState state, Blackhole blackhole) {
+        blackhole.consume(state.engine.findMaximumSubmatrix(state.grid, state.rows, state.columns));
+    }
+}
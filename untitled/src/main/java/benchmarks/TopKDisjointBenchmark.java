@@ -0,0 +1,57 @@
+package benchmarks;
+
+import algorithms.RangeMaxSubarrayIndex;
+import algorithms.TopKDisjointSubarraysEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-k disjoint segments on large arrays: index build plus selection, and selection alone
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class TopKDisjointBenchmark {
+
+    @State(Scope.Thread)
+    public static class TopKState {
+        @Param({"1000000", "100000000"})
+        int size;
+
+        @Param({"10", "1000", "10000"})
+        int k;
+
+        int[] data;
+        TopKDisjointSubarraysEngine engine;
+        RangeMaxSubarrayIndex index;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(201) - 100;
+            }
+            engine = new TopKDisjointSubarraysEngine();
+            index = new RangeMaxSubarrayIndex(data, TopKDisjointSubarraysEngine.DEFAULT_BLOCK_SIZE,
+                                              ForkJoinPool.commonPool());
+        }
+    }
+
+    @Benchmark
+    public void benchmarkBuildAndSelect(TopKState state, Blackhole bh) {
+        bh.consume(state.engine.findTopK(state.data, state.k));
+    }
+
+    @Benchmark
+    public void benchmarkSelectOnly(TopKState state, Blackhole bh) {
+        bh.consume(state.engine.findTopK(state.index, state.k));
+    }
+}
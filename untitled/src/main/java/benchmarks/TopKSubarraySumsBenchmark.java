@@ -0,0 +1,51 @@
+package benchmarks;
+
+import algorithms.TopKSubarraySumsEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy enumeration of the k largest subarray sums
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class TopKSubarraySumsBenchmark {
+
+    @State(Scope.Thread)
+    public static class SumsState {
+        @Param({"100000", "1000000"})
+        int size;
+
+        @Param({"10", "10000", "1000000"})
+        int k;
+
+        int[] data;
+        TopKSubarraySumsEngine engine;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(201) - 100;
+            }
+            engine = new TopKSubarraySumsEngine();
+        }
+    }
+
+    @Benchmark
+    public long benchmarkStreamTopK(SumsState state) {
+        long[] checksum = new long[1];
+        state.engine.forEachLargest(state.data, state.k, (sum, start, end) -> {
+            checksum[0] += sum;
+            return true;
+        });
+        return checksum[0];
+    }
+}
@@ -2,14 +2,21 @@ package cli;
 
 import algorithms.KadaneAlgorithm;
 import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+import algorithms.LongMaximumSubarrayResult;
+import algorithms.MappedFileKadane;
+import algorithms.PrefixSumIndex;
 import metrics.MetricsExporter;
 import metrics.PerformanceTracker;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -28,6 +35,8 @@ public class BenchmarkRunner {
     private int benchmarkIterations = 5;
     private boolean exportCSV = true;
     private boolean verbose = false;
+    private String inputFile = null;
+    private boolean usePrefixIndex = false;
 
     public BenchmarkRunner() {
         this.kadane = new KadaneAlgorithm();
@@ -45,7 +54,11 @@ public class BenchmarkRunner {
         runner.printConfiguration();
 
         try {
-            runner.runCompleteBenchmark();
+            if (runner.inputFile != null) {
+                runner.runFileBenchmark();
+            } else {
+                runner.runCompleteBenchmark();
+            }
             System.out.println("\nBenchmark completed successfully!");
         } catch (Exception e) {
             System.err.println("Benchmark failed: " + e.getMessage());
@@ -86,6 +99,14 @@ public class BenchmarkRunner {
                 case "--no-export":
                     this.exportCSV = false;
                     break;
+                case "--input-file":
+                    if (i + 1 < args.length) {
+                        this.inputFile = args[++i];
+                    }
+                    break;
+                case "--prefix-index":
+                    this.usePrefixIndex = true;
+                    break;
                 case "--verbose":
                 case "-v":
                     this.verbose = true;
@@ -124,6 +145,107 @@ public class BenchmarkRunner {
         printSummary(results);
     }
 
+    /**
+     * Benchmark the memory-mapped path on a raw little-endian int file
+     */
+    public void runFileBenchmark() throws IOException {
+        Path file = Paths.get(inputFile);
+        long elements = Files.size(file) / Integer.BYTES;
+        MappedFileKadane mappedKadane = new MappedFileKadane();
+
+        System.out.printf("%nBenchmarking file %s (%,d elements)...%n", file, elements);
+
+        for (int i = 0; i < warmupIterations; i++) {
+            mappedKadane.findMaximumSubarray(file);
+            if (verbose) {
+                System.out.printf("  Warmup: iteration=%d%n", i + 1);
+            }
+        }
+
+        List<Long> times = new ArrayList<>();
+        LongMaximumSubarrayResult result = null;
+        int iterations = Math.max(1, benchmarkIterations);
+        for (int i = 0; i < iterations; i++) {
+            long startTime = System.nanoTime();
+            result = mappedKadane.findMaximumSubarray(file);
+            long endTime = System.nanoTime();
+            times.add(endTime - startTime);
+
+            if (verbose) {
+                System.out.printf("  Iteration %d: %.3f ms%n", i + 1, (endTime - startTime) / 1_000_000.0);
+            }
+        }
+
+        double avgTimeMs = calculateAverage(times) / 1_000_000.0;
+        System.out.println("\nResult: " + result);
+        System.out.printf("Avg time: %.3f ms, Min: %.3f ms, Max: %.3f ms, Std Dev: %.3f ms%n",
+                avgTimeMs,
+                Collections.min(times) / 1_000_000.0,
+                Collections.max(times) / 1_000_000.0,
+                calculateStdDev(times) / 1_000_000.0);
+        System.out.printf("Throughput: %.1f M elements/s%n", elements / (avgTimeMs / 1000.0) / 1_000_000.0);
+
+        validateFileResult(file, mappedKadane, result);
+    }
+
+    /**
+     * Checks the reported sum of a file result. By default the reported range is
+     * summed through mapped windows, which needs no heap however large the file is.
+     * With --prefix-index the check goes through a prefix sum index kept next to the
+     * input as FILE.psi and reused while it is newer than the input; the index holds
+     * n + 1 longs on the heap, so it is only used when that fits in half the heap.
+     */
+    private void validateFileResult(Path file, MappedFileKadane mappedKadane,
+                                    LongMaximumSubarrayResult result) throws IOException {
+        long elements = Files.size(file) / Integer.BYTES;
+        long indexBytes = (elements + 1) * Long.BYTES;
+        if (usePrefixIndex && elements <= PrefixSumIndex.MAX_ELEMENTS
+                && indexBytes <= Runtime.getRuntime().maxMemory() / 2) {
+            checkSum(result, loadOrBuildIndex(file, elements)
+                    .rangeSum((int) result.getStartIndex(), (int) result.getEndIndex()));
+            return;
+        }
+        if (usePrefixIndex) {
+            System.out.printf("Prefix sum index needs %,d bytes of heap; validating the mapped range instead%n",
+                    indexBytes);
+        }
+        checkSum(result, mappedKadane.rangeSum(file, result.getStartIndex(), result.getEndIndex()));
+    }
+
+    private PrefixSumIndex loadOrBuildIndex(Path file, long elements) throws IOException {
+        Path indexFile = file.resolveSibling(file.getFileName() + ".psi");
+        if (Files.exists(indexFile)
+                && Files.getLastModifiedTime(indexFile).compareTo(Files.getLastModifiedTime(file)) >= 0) {
+            try {
+                PrefixSumIndex loaded = PrefixSumIndex.load(indexFile);
+                if (loaded.size() == elements) {
+                    return loaded;
+                }
+            } catch (IOException e) {
+                System.out.println("Ignoring unreadable prefix sum index: " + e.getMessage());
+            }
+        }
+
+        PrefixSumIndex prefixSums = PrefixSumIndex.fromIntFile(file, ForkJoinPool.commonPool());
+        try {
+            prefixSums.save(indexFile);
+            System.out.printf("Saved prefix sum index to %s%n", indexFile);
+        } catch (IOException e) {
+            System.out.println("Could not save prefix sum index: " + e.getMessage());
+        }
+        return prefixSums;
+    }
+
+    private void checkSum(LongMaximumSubarrayResult result, long actualSum) {
+        if (actualSum != result.getMaxSum()) {
+            throw new RuntimeException(String.format(
+                    "Sum validation failed: expected %d, got %d", result.getMaxSum(), actualSum));
+        }
+        if (verbose) {
+            System.out.println("Validated result sum");
+        }
+    }
+
     /**
      * Warmup JVM to ensure consistent performance measurements
      */
@@ -410,6 +532,9 @@ public class BenchmarkRunner {
         System.out.printf("  Benchmark iterations: %d%n", benchmarkIterations);
         System.out.printf("  CSV export: %s%n", exportCSV);
         System.out.printf("  Verbose: %s%n", verbose);
+        if (inputFile != null) {
+            System.out.printf("  Input file: %s%n", inputFile);
+        }
     }
 
     /**
@@ -427,12 +552,16 @@ public class BenchmarkRunner {
         System.out.println("  --iterations ITERATIONS     Benchmark iterations per configuration (default: 5)");
         System.out.println("  --export-csv                Export results to CSV (default: true)");
         System.out.println("  --no-export                 Disable CSV export");
+        System.out.println("  --input-file PATH           Benchmark the memory-mapped path on a raw little-endian int file");
+        System.out.println("  --prefix-index              Validate --input-file results through a prefix sum index");
+        System.out.println("                              saved as PATH.psi (8 bytes per element, must fit in the heap)");
         System.out.println("  --verbose, -v               Verbose output");
         System.out.println("  --help, -h                  Show this help message");
         System.out.println();
         System.out.println("Examples:");
         System.out.println("  java -cp target/classes cli.BenchmarkRunner --sizes 1000,5000 --distributions random,sorted");
         System.out.println("  java -cp target/classes cli.BenchmarkRunner --iterations 10 --verbose --no-export");
+        System.out.println("  java -cp target/classes cli.BenchmarkRunner --input-file series.bin --iterations 3");
     }
 
     // Utility methods
@@ -466,16 +595,23 @@ public class BenchmarkRunner {
      * Generate test array based on distribution type
      */
     public static int[] generateArray(int size, String distribution) {
-        return switch (distribution.toLowerCase()) {
-            case "random" -> generateRandomArray(size, -100, 100);
-            case "sorted" -> generateSortedArray(size);
-            case "reverse_sorted" -> generateReverseSortedArray(size);
-            case "all_positive" -> generateRandomArray(size, 1, 100);
-            case "all_negative" -> generateRandomArray(size, -100, -1);
-            case "alternating" -> generateAlternatingArray(size);
-            case "sparse_positive" -> generateSparsePositiveArray(size);
-            default -> generateRandomArray(size, -100, 100);
-        };
+        switch (distribution.toLowerCase()) {
+            case "sorted":
+                return generateSortedArray(size);
+            case "reverse_sorted":
+                return generateReverseSortedArray(size);
+            case "all_positive":
+                return generateRandomArray(size, 1, 100);
+            case "all_negative":
+                return generateRandomArray(size, -100, -1);
+            case "alternating":
+                return generateAlternatingArray(size);
+            case "sparse_positive":
+                return generateSparsePositiveArray(size);
+            case "random":
+            default:
+                return generateRandomArray(size, -100, 100);
+        }
     }
 
     private static int[] generateRandomArray(int size, int min, int max) {
@@ -2,109 +2,150 @@ package metrics;
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Enhanced performance tracker with CSV export capabilities
  * Tracks algorithm metrics across multiple runs for empirical analysis
+ *
+ * Safe to share between threads: the per-run counters, timer and input description
+ * live in thread-local state, so each thread measures its own run, and recorded runs
+ * go into a per-thread buffer. Buffers are only combined when the history is read
+ * (getRunHistory, getSummaryStatistics, exports), so recording never contends with
+ * other threads. The counter getters report the calling thread's current run; the
+ * merged history lists each thread's runs in the order that thread recorded them.
+ * When a thread first uses the tracker, the states of threads that have since died
+ * are retired: their runs move to a shared buffer and the state is dropped, so pool
+ * and request threads do not accumulate entries.
  */
 public class PerformanceTracker {
     private final String algorithmName;
-    private int comparisons;
-    private int arrayAccesses;
-    private int memoryAllocations;
-    private long startTime;
-    private long endTime;
-    private int inputSize;
-    private String inputType;
-
-    private final List<Map<String, Object>> runHistory;
+
+    private final ThreadLocal<ThreadState> state;
+    private final Queue<ThreadState> threadStates;
+    private final List<Map<String, Object>> retiredRuns;   // Runs of threads that have died; guarded by itself
     private final Map<String, Long> operationTimings;
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
 
     public PerformanceTracker(String algorithmName) {
         this.algorithmName = algorithmName;
-        this.runHistory = new ArrayList<>();
-        this.operationTimings = new HashMap<>();
+        this.threadStates = new ConcurrentLinkedQueue<>();
+        this.retiredRuns = new ArrayList<>();
+        this.state = ThreadLocal.withInitial(() -> {
+            retireDeadThreads();
+            ThreadState threadState = new ThreadState(Thread.currentThread());
+            threadStates.add(threadState);
+            return threadState;
+        });
+        this.operationTimings = new ConcurrentHashMap<>();
         reset();
     }
 
     public void reset() {
-        comparisons = 0;
-        arrayAccesses = 0;
-        memoryAllocations = 0;
-        startTime = 0;
-        endTime = 0;
-        inputSize = 0;
-        inputType = "unknown";
+        ThreadState s = state.get();
+        s.comparisons = 0;
+        s.arrayAccesses = 0;
+        s.memoryAllocations = 0;
+        s.startTime = 0;
+        s.endTime = 0;
+        s.inputSize = 0;
+        s.inputType = "unknown";
     }
 
     // Metric increment methods
-    public void incrementComparison() { comparisons++; }
-    public void incrementComparisons(int count) { comparisons += count; }
-    public void incrementArrayAccess() { arrayAccesses++; }
-    public void incrementArrayAccesses(int count) { arrayAccesses += count; }
-    public void incrementMemoryAllocation() { memoryAllocations++; }
-    public void incrementMemoryAllocations(int count) { memoryAllocations += count; }
+    public void incrementComparison() { state.get().comparisons++; }
+    public void incrementComparisons(int count) { state.get().comparisons += count; }
+    public void incrementArrayAccess() { state.get().arrayAccesses++; }
+    public void incrementArrayAccesses(int count) { state.get().arrayAccesses += count; }
+    public void incrementMemoryAllocation() { state.get().memoryAllocations++; }
+    public void incrementMemoryAllocations(int count) { state.get().memoryAllocations += count; }
+
+    // Result cache counters, shared by all threads (striped, so they do not contend)
+    public void incrementCacheHit() { cacheHits.increment(); }
+    public void incrementCacheMiss() { cacheMisses.increment(); }
 
     // Timing methods
     public void startTimer() {
-        startTime = System.nanoTime();
+        state.get().startTime = System.nanoTime();
     }
 
     public void stopTimer() {
-        endTime = System.nanoTime();
+        state.get().endTime = System.nanoTime();
     }
 
     public long getElapsedTimeNanos() {
-        return endTime - startTime;
+        ThreadState s = state.get();
+        return s.endTime - s.startTime;
     }
 
     public long getElapsedTimeMillis() {
-        return (endTime - startTime) / 1_000_000;
+        return getElapsedTimeNanos() / 1_000_000;
     }
 
     // Configuration methods
     public void setInputSize(int size) {
-        this.inputSize = size;
+        state.get().inputSize = size;
     }
 
     public void setInputType(String type) {
-        this.inputType = type;
+        state.get().inputType = type;
     }
 
     /**
      * Records a complete run with all metrics
      */
     public void recordRun() {
+        ThreadState s = state.get();
         Map<String, Object> runData = new HashMap<>();
         runData.put("algorithm", algorithmName);
         runData.put("timestamp", System.currentTimeMillis());
-        runData.put("inputSize", inputSize);
-        runData.put("inputType", inputType);
-        runData.put("comparisons", comparisons);
-        runData.put("arrayAccesses", arrayAccesses);
-        runData.put("memoryAllocations", memoryAllocations);
-        runData.put("timeNanos", getElapsedTimeNanos());
-        runData.put("timeMillis", getElapsedTimeMillis());
+        runData.put("inputSize", s.inputSize);
+        runData.put("inputType", s.inputType);
+        runData.put("comparisons", s.comparisons);
+        runData.put("arrayAccesses", s.arrayAccesses);
+        runData.put("memoryAllocations", s.memoryAllocations);
+        runData.put("timeNanos", s.endTime - s.startTime);
+        runData.put("timeMillis", (s.endTime - s.startTime) / 1_000_000);
 
-        runHistory.add(runData);
+        s.append(runData);
 
         // Reset for next run (but keep run history)
-        resetCounters();
+        resetCounters(s);
     }
 
     /**
      * Reset only the counters, not the entire state
      */
-    private void resetCounters() {
-        comparisons = 0;
-        arrayAccesses = 0;
-        memoryAllocations = 0;
-        startTime = 0;
-        endTime = 0;
+    private void resetCounters(ThreadState s) {
+        s.comparisons = 0;
+        s.arrayAccesses = 0;
+        s.memoryAllocations = 0;
+        s.startTime = 0;
+        s.endTime = 0;
+    }
+
+    /**
+     * Appends another tracker's run history and operation timings to this one,
+     * e.g. to fold per-worker trackers into one after a parallel batch. The runs
+     * are added to the calling thread's buffer.
+     */
+    public void merge(PerformanceTracker other) {
+        if (other == null || other == this) {
+            return;
+        }
+        state.get().appendAll(other.mergedHistory());
+        operationTimings.putAll(other.operationTimings);
+        cacheHits.add(other.getCacheHits());
+        cacheMisses.add(other.getCacheMisses());
     }
 
     /**
@@ -114,6 +155,36 @@ public class PerformanceTracker {
         operationTimings.put(operationName + "_n" + inputSize, System.nanoTime());
     }
 
+    /**
+     * Moves the runs of threads that are no longer alive into the retired buffer and
+     * drops their states. Holding the retired lock keeps readers from seeing a run
+     * twice or not at all while it moves.
+     */
+    private void retireDeadThreads() {
+        synchronized (retiredRuns) {
+            for (ThreadState s : threadStates) {
+                if (!s.isOwnerAlive()) {
+                    s.copyRunsInto(retiredRuns);
+                    threadStates.remove(s);
+                }
+            }
+        }
+    }
+
+    /**
+     * Snapshot of every thread's recorded runs: retired threads first, then one live
+     * thread's buffer after another
+     */
+    private List<Map<String, Object>> mergedHistory() {
+        synchronized (retiredRuns) {
+            List<Map<String, Object>> merged = new ArrayList<>(retiredRuns);
+            for (ThreadState s : threadStates) {
+                s.copyRunsInto(merged);
+            }
+            return merged;
+        }
+    }
+
     /**
      * Exports all run history to CSV file
      */
@@ -123,7 +194,7 @@ public class PerformanceTracker {
             writer.write("algorithm,timestamp,inputSize,inputType,comparisons,arrayAccesses,memoryAllocations,timeNanos,timeMillis\n");
 
             // Write data rows
-            for (Map<String, Object> run : runHistory) {
+            for (Map<String, Object> run : mergedHistory()) {
                 writer.write(String.format("%s,%d,%d,%s,%d,%d,%d,%d,%d\n",
                         run.get("algorithm"),
                         run.get("timestamp"),
@@ -143,6 +214,7 @@ public class PerformanceTracker {
      * Exports summary statistics to CSV
      */
     public void exportSummaryToCSV(String filename) throws IOException {
+        List<Map<String, Object>> runHistory = mergedHistory();
         if (runHistory.isEmpty()) return;
 
         try (FileWriter writer = new FileWriter(filename)) {
@@ -196,18 +268,39 @@ public class PerformanceTracker {
     }
 
     // Getters
-    public int getComparisons() { return comparisons; }
-    public int getArrayAccesses() { return arrayAccesses; }
-    public int getMemoryAllocations() { return memoryAllocations; }
-    public List<Map<String, Object>> getRunHistory() { return new ArrayList<>(runHistory); }
+    public String getAlgorithmName() { return algorithmName; }
+    public int getComparisons() { return state.get().comparisons; }
+    public int getArrayAccesses() { return state.get().arrayAccesses; }
+    public int getMemoryAllocations() { return state.get().memoryAllocations; }
+    public List<Map<String, Object>> getRunHistory() { return mergedHistory(); }
     public Map<String, Long> getOperationTimings() { return new HashMap<>(operationTimings); }
-    public int getRunCount() { return runHistory.size(); }
+    public long getCacheHits() { return cacheHits.sum(); }
+    public long getCacheMisses() { return cacheMisses.sum(); }
+
+    public int getRunCount() {
+        synchronized (retiredRuns) {
+            int count = retiredRuns.size();
+            for (ThreadState s : threadStates) {
+                count += s.runCount();
+            }
+            return count;
+        }
+    }
 
     /**
      * Gets summary statistics for the current run history
      */
     public Map<String, Object> getSummaryStatistics() {
         Map<String, Object> stats = new HashMap<>();
+        List<Map<String, Object>> runHistory = mergedHistory();
+
+        long hits = getCacheHits();
+        long misses = getCacheMisses();
+        if (hits + misses > 0) {
+            stats.put("cacheHits", hits);
+            stats.put("cacheMisses", misses);
+            stats.put("cacheHitRate", (double) hits / (hits + misses));
+        }
 
         if (runHistory.isEmpty()) {
             return stats;
@@ -247,7 +340,50 @@ public class PerformanceTracker {
     public String toString() {
         return String.format(
                 "%s Metrics - Comparisons: %d, Array Accesses: %d, Memory Allocations: %d, Time: %d ms",
-                algorithmName, comparisons, arrayAccesses, memoryAllocations, getElapsedTimeMillis()
+                algorithmName, getComparisons(), getArrayAccesses(), getMemoryAllocations(), getElapsedTimeMillis()
         );
     }
+
+    /**
+     * One thread's in-progress counters and recorded runs. Only the owning thread
+     * writes; the run buffer is locked so readers can copy it while it grows, and
+     * that lock is uncontended except while a reader is merging.
+     */
+    private static final class ThreadState {
+        int comparisons;
+        int arrayAccesses;
+        int memoryAllocations;
+        long startTime;
+        long endTime;
+        int inputSize;
+        String inputType;
+
+        private final WeakReference<Thread> owner;
+        private final List<Map<String, Object>> runs = new ArrayList<>();
+
+        ThreadState(Thread owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        boolean isOwnerAlive() {
+            Thread thread = owner.get();
+            return thread != null && thread.isAlive();
+        }
+
+        synchronized void append(Map<String, Object> run) {
+            runs.add(run);
+        }
+
+        synchronized void appendAll(List<Map<String, Object>> other) {
+            runs.addAll(other);
+        }
+
+        synchronized void copyRunsInto(List<Map<String, Object>> target) {
+            target.addAll(runs);
+        }
+
+        synchronized int runCount() {
+            return runs.size();
+        }
+    }
 }
\ No newline at end of file
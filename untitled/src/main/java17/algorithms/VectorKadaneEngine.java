@@ -0,0 +1,142 @@
+package algorithms;
+
+import algorithms.KadaneAlgorithm.MaximumSubarrayResult;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD Kadane engine built on the JDK Vector API (jdk.incubator.vector).
+ * Uses the prefix-sum form of the problem: for each end e the best sum is
+ * P[e+1] - min(P[0..e]). Each block of lanes computes in-register prefix sums
+ * and running minimum prefixes with log2(lanes) shift steps, and only the block
+ * holding the first maximum is rescanned with scalar code to recover the exact
+ * start and end indices.
+ *
+ * Like {@link FastKadaneEngine}, sums are kept in int lanes; inputs whose prefix
+ * sums leave the int range need {@link OverflowSafeKadaneEngine}.
+ *
+ * Requires Java 17+ and --add-modules jdk.incubator.vector (see the java17 profile).
+ *
+ * Time Complexity: O(n)
+ * Space Complexity: O(1)
+ */
+public class VectorKadaneEngine implements MaximumSubarrayEngine {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public MaximumSubarrayResult findMaximumSubarray(int[] nums) {
+        if (nums == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (nums.length == 0) {
+            throw new IllegalArgumentException("Input array cannot be empty");
+        }
+
+        int lanes = SPECIES.length();
+        IntVector maxFill = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+
+        int carry = 0;                      // Prefix sum before the current block
+        int carryMin = Integer.MAX_VALUE;   // Smallest prefix before the current block
+        int carryMinIndex = 0;
+
+        int best = Integer.MIN_VALUE;
+        int bestStart = 0;
+        int bestEnd = 0;
+
+        // Block state captured when the best sum last improved inside a vector block
+        int bestBlock = -1;
+        int bestBlockCarry = 0;
+        int bestBlockMin = 0;
+        int bestBlockMinIndex = 0;
+
+        int i = 0;
+        int upperBound = SPECIES.loopBound(nums.length);
+        for (; i < upperBound; i += lanes) {
+            IntVector values = IntVector.fromArray(SPECIES, nums, i);
+            IntVector inclusive = prefixSum(values).add(carry);
+            IntVector exclusive = inclusive.sub(values);
+            IntVector runningMin = prefixMin(exclusive, maxFill).min(carryMin);
+
+            int blockBest = inclusive.sub(runningMin).reduceLanes(VectorOperators.MAX);
+            if (blockBest > best) {
+                best = blockBest;
+                bestBlock = i;
+                bestBlockCarry = carry;
+                bestBlockMin = carryMin;
+                bestBlockMinIndex = carryMinIndex;
+            }
+
+            int blockMin = runningMin.lane(lanes - 1);
+            if (blockMin < carryMin) {
+                carryMin = blockMin;
+                carryMinIndex = i + exclusive.compare(VectorOperators.EQ, blockMin).firstTrue();
+            }
+            carry = inclusive.lane(lanes - 1);
+        }
+
+        // Scalar tail continues from the carried state
+        for (; i < nums.length; i++) {
+            if (carry < carryMin) {
+                carryMin = carry;
+                carryMinIndex = i;
+            }
+            carry += nums[i];
+            int candidate = carry - carryMin;
+            if (candidate > best) {
+                best = candidate;
+                bestStart = carryMinIndex;
+                bestEnd = i;
+                bestBlock = -1;
+            }
+        }
+
+        // Recover exact indices by replaying only the winning block
+        if (bestBlock >= 0) {
+            int prefix = bestBlockCarry;
+            int min = bestBlockMin;
+            int minIndex = bestBlockMinIndex;
+            for (int j = bestBlock; j < bestBlock + lanes; j++) {
+                if (prefix < min) {
+                    min = prefix;
+                    minIndex = j;
+                }
+                prefix += nums[j];
+                if (prefix - min == best) {
+                    bestStart = minIndex;
+                    bestEnd = j;
+                    break;
+                }
+            }
+        }
+
+        return new MaximumSubarrayResult(best, bestStart, bestEnd);
+    }
+
+    /**
+     * Inclusive lane-wise prefix sum (Hillis-Steele scan)
+     */
+    private static IntVector prefixSum(IntVector v) {
+        for (int shift = 1; shift < SPECIES.length(); shift <<= 1) {
+            v = v.add(v.unslice(shift));
+        }
+        return v;
+    }
+
+    /**
+     * Inclusive lane-wise prefix minimum; shifted-in lanes are filled with Integer.MAX_VALUE
+     */
+    private static IntVector prefixMin(IntVector v, IntVector maxFill) {
+        for (int shift = 1; shift < SPECIES.length(); shift <<= 1) {
+            v = v.min(v.unslice(shift, maxFill, 0));
+        }
+        return v;
+    }
+
+    /**
+     * Number of int lanes used per block on this platform
+     */
+    public static int laneCount() {
+        return SPECIES.length();
+    }
+}
@@ -0,0 +1,53 @@
+package benchmarks;
+
+import algorithms.FastKadaneEngine;
+import algorithms.VectorKadaneEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Vector API engine against the scalar fast-path loop
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules=jdk.incubator.vector"})
+@State(Scope.Thread)
+public class VectorKadaneBenchmark {
+
+    @State(Scope.Thread)
+    public static class VectorState {
+        @Param({"1000", "100000", "10000000"})
+        int size;
+
+        FastKadaneEngine scalarEngine;
+        VectorKadaneEngine vectorEngine;
+        int[] array;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            scalarEngine = new FastKadaneEngine();
+            vectorEngine = new VectorKadaneEngine();
+
+            Random random = new Random(42);
+            array = new int[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt(201) - 100;
+            }
+        }
+    }
+
+    @Benchmark
+    public void benchmarkScalar(VectorState state, Blackhole blackhole) {
+        blackhole.consume(state.scalarEngine.findMaximumSubarray(state.array));
+    }
+
+    @Benchmark
+    public void benchmarkVector(VectorState state, Blackhole blackhole) {
+        blackhole.consume(state.vectorEngine.findMaximumSubarray(state.array));
+    }
+}
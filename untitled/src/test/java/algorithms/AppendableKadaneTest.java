@@ -0,0 +1,98 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Appendable Kadane Tests")
+class AppendableKadaneTest {
+    private AppendableKadane handle;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        handle = new AppendableKadane(1);
+        random = new Random(42);
+    }
+
+    @Test
+    @DisplayName("Result after every append should match a rescan of the whole array")
+    void testMatchesRescanAfterEveryAppend() {
+        FastKadaneEngine reference = new FastKadaneEngine();
+
+        for (int round = 0; round < 20; round++) {
+            handle.clear();
+            int[] nums = new int[1 + random.nextInt(300)];
+            for (int j = 0; j < nums.length; j++) {
+                nums[j] = random.nextInt(21) - 10;
+            }
+
+            int offset = 0;
+            while (offset < nums.length) {
+                int length = Math.min(nums.length - offset, random.nextInt(9));
+                if (random.nextBoolean() && length > 0) {
+                    handle.append(nums[offset]);
+                    length = 1;
+                } else {
+                    handle.append(nums, offset, length);
+                }
+                offset += length;
+
+                if (offset > 0) {
+                    int[] prefix = Arrays.copyOf(nums, offset);
+                    assertEquals(reference.findMaximumSubarray(prefix).toString(), handle.current().toString());
+                }
+            }
+
+            assertArrayEquals(nums, handle.toArray());
+            assertEquals(nums.length, handle.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Buffer should grow to hold every appended value")
+    void testGrowth() {
+        for (int i = 0; i < 1000; i++) {
+            handle.append(i % 7 - 3);
+        }
+        handle.append(new int[5000]);
+
+        assertEquals(6000, handle.size());
+        assertTrue(handle.getCapacity() >= 6000);
+        assertEquals(-3, handle.get(0));
+        assertEquals(3, handle.get(6));
+        assertEquals(0, handle.get(5999));
+        assertThrows(IndexOutOfBoundsException.class, () -> handle.get(6000));
+    }
+
+    @Test
+    @DisplayName("Sums should not overflow the int range")
+    void testLongSums() {
+        int[] chunk = new int[1000];
+        Arrays.fill(chunk, Integer.MAX_VALUE);
+        handle.append(chunk);
+        handle.append(chunk);
+
+        LongMaximumSubarrayResult result = handle.current();
+        assertAll("Long sum",
+                () -> assertEquals(2000L * Integer.MAX_VALUE, result.getMaxSum()),
+                () -> assertEquals(0, result.getStartIndex()),
+                () -> assertEquals(1999, result.getEndIndex())
+        );
+    }
+
+    @Test
+    @DisplayName("Empty handle and invalid slices should be rejected")
+    void testInvalidUse() {
+        assertTrue(handle.isEmpty());
+        assertThrows(IllegalStateException.class, () -> handle.current());
+        assertThrows(IndexOutOfBoundsException.class, () -> handle.append(new int[]{1, 2, 3}, 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> handle.append(null));
+        assertThrows(IllegalArgumentException.class, () -> new AppendableKadane(-1));
+    }
+}
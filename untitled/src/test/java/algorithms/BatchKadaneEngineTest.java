@@ -0,0 +1,108 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Batch Kadane Engine Tests")
+class BatchKadaneEngineTest {
+
+    private final FastKadaneEngine reference = new FastKadaneEngine();
+
+    @Test
+    @DisplayName("Batch results should match individual scans in input order")
+    void testMatchesIndividualScans() {
+        Random random = new Random(42);
+        int[][] arrays = new int[5000][];
+        for (int k = 0; k < arrays.length; k++) {
+            arrays[k] = generateRandomArray(random, 1 + random.nextInt(random.nextInt(10) == 0 ? 5000 : 50));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SubarrayResults results = new BatchKadaneEngine(pool).run(arrays);
+
+            assertEquals(arrays.length, results.size());
+            for (int k = 0; k < arrays.length; k++) {
+                KadaneAlgorithm.MaximumSubarrayResult expected = reference.findMaximumSubarray(arrays[k]);
+                assertEquals(expected.getMaxSum(), results.getSum(k), "Sum of array " + k);
+                assertEquals(expected.getStartIndex(), results.getStart(k), "Start of array " + k);
+                assertEquals(expected.getEndIndex(), results.getEnd(k), "End of array " + k);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Buffers should be scanned from their positions without moving them")
+    void testBuffers() {
+        List<IntBuffer> buffers = new ArrayList<>();
+        buffers.add(IntBuffer.wrap(new int[]{-2, 1, -3, 4, -1, 2, 1, -5, 4}));
+        IntBuffer shifted = IntBuffer.wrap(new int[]{100, -1, 3, -1});
+        shifted.position(1);
+        buffers.add(shifted);
+
+        SubarrayResults results = new BatchKadaneEngine().runBuffers(buffers);
+
+        assertEquals("[6@[3, 6], 3@[1, 1]]", results.toString());
+        assertEquals(1, shifted.position());
+    }
+
+    @Test
+    @DisplayName("Per-worker metrics should be merged into the supplied tracker")
+    void testMetricsMerged() {
+        int[][] arrays = {{1, 2, 3}, {-1}, {4, -5, 6, 7}};
+        String[] types = {"sorted", "single", "random"};
+        PerformanceTracker tracker = new PerformanceTracker("Batch");
+
+        new BatchKadaneEngine().run(arrays, types, tracker);
+
+        assertEquals(3, tracker.getRunCount());
+        long totalSize = tracker.getRunHistory().stream().mapToInt(run -> (Integer) run.get("inputSize")).sum();
+        assertEquals(8, totalSize);
+        assertTrue(tracker.getRunHistory().stream().anyMatch(run -> "single".equals(run.get("inputType"))));
+    }
+
+    @Test
+    @DisplayName("KadaneAlgorithm should run batches in parallel and record every run")
+    void testKadaneAlgorithmParallelBatch() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        int[][] arrays = {{-2, 1, -3, 4, -1, 2, 1, -5, 4}, {5, -9, 6}};
+
+        SubarrayResults results = kadane.runBatchTestsParallel(arrays, new String[]{"a", "b"}, ForkJoinPool.commonPool());
+
+        assertEquals("[6@[3, 6], 6@[2, 2]]", results.toString());
+        assertEquals(2, kadane.getPerformanceTracker().getRunCount());
+    }
+
+    @Test
+    @DisplayName("Empty batches and invalid input should be handled")
+    void testEdgeCases() {
+        BatchKadaneEngine engine = new BatchKadaneEngine();
+
+        assertAll(
+            () -> assertEquals(0, engine.run(new int[0][]).size()),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.run(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.run(new int[][]{{1}, null})),
+            () -> assertThrows(IllegalArgumentException.class,
+                    () -> engine.run(new int[][]{{1}}, new String[2], null))
+        );
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
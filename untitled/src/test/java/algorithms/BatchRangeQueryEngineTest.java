@@ -0,0 +1,79 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Batch Range Query Engine Tests")
+class BatchRangeQueryEngineTest {
+
+    @Test
+    @DisplayName("Batch answers should match individual index queries in query order")
+    void testMatchesIndividualQueries() {
+        Random random = new Random(42);
+        int[] nums = generateRandomArray(random, 5000);
+        int[] l = new int[20000];
+        int[] r = new int[l.length];
+        for (int k = 0; k < l.length; k++) {
+            l[k] = random.nextInt(nums.length);
+            r[k] = l[k] + random.nextInt(nums.length - l[k]);
+        }
+
+        RangeMaxSubarrayIndex index = new RangeMaxSubarrayIndex(nums, 16);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BatchRangeQueryEngine.Results results = new BatchRangeQueryEngine(pool, 256).query(index, l, r);
+
+            assertEquals(l.length, results.size());
+            for (int k = 0; k < l.length; k++) {
+                LongMaximumSubarrayResult expected = index.query(l[k], r[k]);
+                assertEquals(expected.getMaxSum(), results.getSum(k), "Sum of query " + k);
+                assertEquals(expected.getStartIndex(), results.getStart(k), "Start of query " + k);
+                assertEquals(expected.getEndIndex(), results.getEnd(k), "End of query " + k);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Building from a raw array should give the same answers")
+    void testFromArray() {
+        int[] nums = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        int[] l = {0, 3, 7, 0};
+        int[] r = {8, 6, 8, 2};
+
+        BatchRangeQueryEngine.Results results = new BatchRangeQueryEngine().query(nums, l, r);
+
+        assertArrayEquals(new long[]{6, 6, 4, 1}, results.getSums());
+        assertArrayEquals(new int[]{3, 3, 8, 1}, results.getStarts());
+        assertArrayEquals(new int[]{6, 6, 8, 1}, results.getEnds());
+    }
+
+    @Test
+    @DisplayName("Empty batches and invalid bounds should be handled")
+    void testEdgeCases() {
+        BatchRangeQueryEngine engine = new BatchRangeQueryEngine();
+        RangeMaxSubarrayIndex index = new RangeMaxSubarrayIndex(new int[]{1, 2, 3});
+
+        assertAll(
+            () -> assertEquals(0, engine.query(index, new int[0], new int[0]).size()),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.query(index, new int[1], new int[2])),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.query(index, null, new int[0])),
+            () -> assertThrows(IndexOutOfBoundsException.class,
+                    () -> engine.query(index, new int[]{0}, new int[]{3}))
+        );
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
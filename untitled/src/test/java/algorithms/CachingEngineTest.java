@@ -0,0 +1,158 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Caching Engine Tests")
+class CachingEngineTest {
+    private Random random;
+    private PerformanceTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(42);
+        tracker = new PerformanceTracker("CachingEngineTest");
+    }
+
+    @Test
+    @DisplayName("Cached results should match the delegate")
+    void testMatchesDelegate() {
+        FastKadaneEngine fast = new FastKadaneEngine();
+        CachingEngine cache = new CachingEngine(fast, 16, 1 << 16, tracker);
+
+        for (int i = 0; i < 200; i++) {
+            int[] nums = generateRandomArray(random, 1 + random.nextInt(300));
+            String expected = fast.findMaximumSubarray(nums).toString();
+
+            assertAll("Cached result",
+                    () -> assertEquals(expected, cache.findMaximumSubarray(nums).toString()),
+                    () -> assertEquals(expected, cache.findMaximumSubarray(nums).toString()),
+                    () -> assertEquals(expected, cache.findMaximumSubarray(nums, 7L).toString())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Equal content should hit even through a different array")
+    void testContentHitsAndMisses() {
+        CachingEngine cache = new CachingEngine(new FastKadaneEngine(), 16, 1 << 16, tracker);
+        int[] nums = generateRandomArray(random, 1000);
+
+        cache.findMaximumSubarray(nums);
+        cache.findMaximumSubarray(nums);
+        cache.findMaximumSubarray(nums.clone());
+
+        Map<String, Object> stats = tracker.getSummaryStatistics();
+        assertAll("Counters",
+                () -> assertEquals(2, tracker.getCacheHits()),
+                () -> assertEquals(1, tracker.getCacheMisses()),
+                () -> assertEquals(2L, stats.get("cacheHits")),
+                () -> assertEquals(2.0 / 3, (double) stats.get("cacheHitRate"), 1e-12),
+                () -> assertEquals(1, cache.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Mutating a cached array should miss in content mode")
+    void testMutationMisses() {
+        CachingEngine cache = new CachingEngine(new FastKadaneEngine(), 16, 1 << 16, tracker);
+        // The mutated element is not one of the hashed samples, so only equals can catch it
+        int[] nums = new int[1000];
+        nums[500] = 3;
+        assertEquals(3, cache.findMaximumSubarray(nums).getMaxSum());
+
+        nums[501] = 4;
+        KadaneAlgorithm.MaximumSubarrayResult result = cache.findMaximumSubarray(nums);
+
+        assertEquals(7, result.getMaxSum());
+        assertEquals(0, tracker.getCacheHits());
+        assertEquals(2, tracker.getCacheMisses());
+    }
+
+    @Test
+    @DisplayName("Identity mode should hit until the version changes")
+    void testIdentityVersion() {
+        CachingEngine cache = new CachingEngine(new FastKadaneEngine(), 16, 1 << 16, tracker);
+        int[] nums = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+
+        assertEquals(6, cache.findMaximumSubarray(nums, 1L).getMaxSum());
+        nums[0] = 100;
+        assertEquals(6, cache.findMaximumSubarray(nums, 1L).getMaxSum());
+        assertEquals(104, cache.findMaximumSubarray(nums, 2L).getMaxSum());
+        // A different reference never shares an identity entry
+        assertEquals(104, cache.findMaximumSubarray(nums.clone(), 1L).getMaxSum());
+
+        assertEquals(1, tracker.getCacheHits());
+        assertEquals(3, tracker.getCacheMisses());
+    }
+
+    @Test
+    @DisplayName("Least recently used entries should be evicted by count")
+    void testEvictionByCount() {
+        CachingEngine cache = new CachingEngine(new FastKadaneEngine(), 2, 1 << 16, tracker);
+        int[] a = {1, 2};
+        int[] b = {3, 4};
+        int[] c = {5, 6};
+
+        cache.findMaximumSubarray(a);
+        cache.findMaximumSubarray(b);
+        cache.findMaximumSubarray(a);   // a is now most recent
+        cache.findMaximumSubarray(c);   // evicts b
+        cache.findMaximumSubarray(a);
+        cache.findMaximumSubarray(b);
+
+        assertEquals(2, cache.size());
+        assertEquals(2, tracker.getCacheHits());
+        assertEquals(4, tracker.getCacheMisses());
+    }
+
+    @Test
+    @DisplayName("Entries should be evicted once the total length exceeds the weight limit")
+    void testEvictionByWeight() {
+        CachingEngine cache = new CachingEngine(new FastKadaneEngine(), 100, 250, tracker);
+
+        cache.findMaximumSubarray(generateRandomArray(random, 100));
+        cache.findMaximumSubarray(generateRandomArray(random, 100));
+        assertEquals(200, cache.getWeight());
+
+        cache.findMaximumSubarray(generateRandomArray(random, 100));
+        assertEquals(2, cache.size());
+        assertEquals(200, cache.getWeight());
+
+        // Heavier than the whole cache: answered but never stored
+        cache.findMaximumSubarray(generateRandomArray(random, 300));
+        assertEquals(2, cache.size());
+        assertEquals(200, cache.getWeight());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    @DisplayName("Invalid input should surface the delegate's exceptions")
+    void testInvalidInputs() {
+        CachingEngine cache = new CachingEngine(new FastKadaneEngine());
+
+        assertThrows(IllegalArgumentException.class, () -> cache.findMaximumSubarray(null));
+        assertThrows(IllegalArgumentException.class, () -> cache.findMaximumSubarray(new int[0], 0L));
+        assertThrows(IllegalArgumentException.class, () -> new CachingEngine(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachingEngine(new FastKadaneEngine(), 0, 1, tracker));
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
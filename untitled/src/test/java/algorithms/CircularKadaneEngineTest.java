@@ -0,0 +1,90 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Circular Kadane Engine Tests")
+class CircularKadaneEngineTest {
+
+    private final CircularKadaneEngine engine = new CircularKadaneEngine();
+
+    @Test
+    @DisplayName("Sums should match a brute force over every ring range")
+    void testMatchesBruteForce() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 500; trial++) {
+            int[] nums = generateRandomArray(random, 1 + random.nextInt(30));
+            CircularSubarrayResult result = engine.findMaximumSubarray(nums);
+
+            assertEquals(bruteForce(nums), result.getMaxSum(), "Trial " + trial);
+            assertEquals(result.getMaxSum(), ringSum(nums, result), "Indices must enclose the reported sum");
+            assertTrue(result.getLength() >= 1 && result.getLength() <= nums.length);
+        }
+    }
+
+    @Test
+    @DisplayName("A range crossing the end should be reported as wrapped")
+    void testWrappedRange() {
+        CircularSubarrayResult result = engine.findMaximumSubarray(new int[]{5, -3, -4, 5});
+
+        assertAll(
+            () -> assertEquals(10, result.getMaxSum()),
+            () -> assertEquals(3, result.getStartIndex()),
+            () -> assertEquals(0, result.getEndIndex()),
+            () -> assertTrue(result.isWrapped()),
+            () -> assertEquals(2, result.getLength())
+        );
+    }
+
+    @Test
+    @DisplayName("Ties and all-negative input should keep the non-wrapped range")
+    void testNonWrappedPreference() {
+        CircularSubarrayResult tie = engine.findMaximumSubarray(new int[]{2, -2, 2, -2});
+        CircularSubarrayResult negative = engine.findMaximumSubarray(new int[]{-3, -1, -2});
+
+        assertAll(
+            () -> assertEquals("Max Sum: 2, Range: [0, 0]", tie.toString()),
+            () -> assertFalse(tie.isWrapped()),
+            () -> assertEquals("Max Sum: -1, Range: [1, 1]", negative.toString())
+        );
+    }
+
+    @Test
+    @DisplayName("Invalid input should be rejected")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> engine.findMaximumSubarray(null));
+        assertThrows(IllegalArgumentException.class, () -> engine.findMaximumSubarray(new int[0]));
+    }
+
+    private long bruteForce(int[] nums) {
+        long best = Long.MIN_VALUE;
+        for (int start = 0; start < nums.length; start++) {
+            long sum = 0;
+            for (int length = 1; length <= nums.length; length++) {
+                sum += nums[(start + length - 1) % nums.length];
+                best = Math.max(best, sum);
+            }
+        }
+        return best;
+    }
+
+    private long ringSum(int[] nums, CircularSubarrayResult result) {
+        long sum = 0;
+        for (long k = 0; k < result.getLength(); k++) {
+            sum += nums[(int) ((result.getStartIndex() + k) % nums.length)];
+        }
+        return sum;
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
@@ -0,0 +1,113 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Kadane Algorithm Concurrency Tests")
+class KadaneAlgorithmConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 500;
+
+    @Test
+    @DisplayName("A shared instance should give correct results and record every run")
+    void testSharedInstance() throws Exception {
+        KadaneAlgorithm shared = new KadaneAlgorithm();
+        FastKadaneEngine reference = new FastKadaneEngine();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    int mismatches = 0;
+                    for (int call = 0; call < CALLS_PER_THREAD; call++) {
+                        int[] nums = generateRandomArray(random, 1 + random.nextInt(200));
+                        String expected = reference.findMaximumSubarray(nums).toString();
+                        if (!expected.equals(shared.findMaximumSubarray(nums).toString())) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                assertEquals(0, future.get());
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        PerformanceTracker tracker = shared.getPerformanceTracker();
+        assertEquals(THREADS * CALLS_PER_THREAD, tracker.getRunCount());
+        assertEquals(THREADS * CALLS_PER_THREAD, tracker.getRunHistory().size());
+        Map<String, Object> stats = tracker.getSummaryStatistics();
+        assertEquals(THREADS * CALLS_PER_THREAD, stats.get("runCount"));
+    }
+
+    @Test
+    @DisplayName("Each thread's counters should describe only its own run")
+    void testPerThreadCounters() throws Exception {
+        PerformanceTracker tracker = new PerformanceTracker("Shared");
+        tracker.incrementComparisons(5);
+
+        Thread other = new Thread(() -> {
+            tracker.incrementComparisons(100);
+            tracker.setInputSize(7);
+            tracker.recordRun();
+        });
+        other.start();
+        other.join();
+
+        assertEquals(5, tracker.getComparisons());
+        assertEquals(1, tracker.getRunCount());
+        assertEquals(100, tracker.getRunHistory().get(0).get("comparisons"));
+        assertEquals(7, tracker.getRunHistory().get(0).get("inputSize"));
+    }
+
+    @Test
+    @DisplayName("Runs of threads that have died should survive their state being retired")
+    void testDeadThreadRunsAreKept() throws Exception {
+        PerformanceTracker tracker = new PerformanceTracker("Shared");
+
+        // Each new thread retires the states of the threads before it
+        for (int i = 0; i < 10; i++) {
+            int size = i;
+            Thread worker = new Thread(() -> {
+                tracker.setInputSize(size);
+                tracker.recordRun();
+            });
+            worker.start();
+            worker.join();
+        }
+        tracker.recordRun();
+
+        assertEquals(11, tracker.getRunCount());
+        assertEquals(11, tracker.getRunHistory().size());
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i, tracker.getRunHistory().get(i).get("inputSize"));
+        }
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
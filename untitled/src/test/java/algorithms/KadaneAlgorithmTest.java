@@ -386,27 +386,28 @@ class KadaneAlgorithmTest {
         }
     }
 
+    // Static providers cannot live in inner classes before Java 16
+    static Stream<Arguments> provideComprehensiveTestCases() {
+        return Stream.of(
+                // Format: {input array}, expectedSum, expectedStart, expectedEnd
+                Arguments.of(new int[]{1, 2, 3}, 6, 0, 2),
+                Arguments.of(new int[]{-1, -2, -3}, -1, 0, 0),
+                Arguments.of(new int[]{2, -1, 2, 3, 4, -5}, 10, 0, 4),
+                Arguments.of(new int[]{-2, -3, 4, -1, -2, 1, 5, -3}, 7, 2, 6),
+                Arguments.of(new int[]{1, -3, 2, 1, -1}, 3, 2, 3),
+                Arguments.of(new int[]{8, -19, 5, -4, 20}, 21, 2, 4),
+                Arguments.of(new int[]{-1, 2, 3, -4, 5, 6}, 11, 4, 5),
+                Arguments.of(new int[]{-1, 2, 3, -4, 5, 6, -1}, 11, 4, 5),
+                Arguments.of(new int[]{3, -2, 5, -1}, 6, 0, 2),
+                Arguments.of(new int[]{-1, -2, 5, -4, 3, 2, -1, 2}, 6, 2, 7)
+        );
+    }
+
     @Nested
     @DisplayName("Parameterized Test Cases")
     class ParameterizedTests {
-        static Stream<Arguments> provideComprehensiveTestCases() {
-            return Stream.of(
-                    // Format: {input array}, expectedSum, expectedStart, expectedEnd
-                    Arguments.of(new int[]{1, 2, 3}, 6, 0, 2),
-                    Arguments.of(new int[]{-1, -2, -3}, -1, 0, 0),
-                    Arguments.of(new int[]{2, -1, 2, 3, 4, -5}, 10, 0, 4),
-                    Arguments.of(new int[]{-2, -3, 4, -1, -2, 1, 5, -3}, 7, 2, 6),
-                    Arguments.of(new int[]{1, -3, 2, 1, -1}, 3, 2, 3),
-                    Arguments.of(new int[]{8, -19, 5, -4, 20}, 21, 2, 4),
-                    Arguments.of(new int[]{-1, 2, 3, -4, 5, 6}, 11, 4, 5),
-                    Arguments.of(new int[]{-1, 2, 3, -4, 5, 6, -1}, 11, 4, 5),
-                    Arguments.of(new int[]{3, -2, 5, -1}, 6, 0, 2),
-                    Arguments.of(new int[]{-1, -2, 5, -4, 3, 2, -1, 2}, 6, 2, 7)
-            );
-        }
-
         @ParameterizedTest
-        @MethodSource("provideComprehensiveTestCases")
+        @MethodSource("algorithms.KadaneAlgorithmTest#provideComprehensiveTestCases")
         @DisplayName("Comprehensive parameterized test cases")
         void testParameterizedCases(int[] input, int expectedSum, int expectedStart, int expectedEnd) {
             KadaneAlgorithm.MaximumSubarrayResult result = kadane.findMaximumSubarray(input);
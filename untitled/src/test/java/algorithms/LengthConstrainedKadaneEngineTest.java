@@ -0,0 +1,106 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Length-Constrained Kadane Engine Tests")
+class LengthConstrainedKadaneEngineTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "1, 2147483647", "3, 3", "2, 5", "5, 40", "10, 2147483647"})
+    @DisplayName("Results should match a brute force over all allowed lengths")
+    void testMatchesBruteForce(int minLength, int maxLength) {
+        Random random = new Random(42);
+        LengthConstrainedKadaneEngine engine = new LengthConstrainedKadaneEngine(minLength, maxLength);
+
+        for (int trial = 0; trial < 100; trial++) {
+            int[] nums = generateRandomArray(random, minLength + random.nextInt(60));
+            assertEquals(bruteForce(nums, minLength, maxLength), engine.findMaximumSubarray(nums).toString(),
+                         "Trial " + trial);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "4, 9", "16, 90", "16, 2000", "40, 5000", "1, 2147483647"})
+    @DisplayName("Parallel chunks should return exactly the sequential result")
+    void testParallelMatchesSequential(int minLength, int maxLength) {
+        Random random = new Random(42);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            LengthConstrainedKadaneEngine sequential = new LengthConstrainedKadaneEngine(minLength, maxLength);
+            LengthConstrainedKadaneEngine parallel = new LengthConstrainedKadaneEngine(minLength, maxLength, pool, 100);
+
+            for (int trial = 0; trial < 20; trial++) {
+                int[] nums = generateRandomArray(random, 5000);
+                assertEquals(sequential.findMaximumSubarray(nums).toString(),
+                             parallel.findMaximumSubarray(nums).toString(), "Trial " + trial);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A minimum length should force a longer segment than plain Kadane")
+    void testMinimumLengthForcesLongerSegment() {
+        int[] nums = {-1, 10, -20, 3, 4, -1, 2};
+        LongMaximumSubarrayResult result = new LengthConstrainedKadaneEngine(4, 4).findMaximumSubarray(nums);
+
+        assertEquals("Max Sum: 8, Range: [3, 6]", result.toString());
+    }
+
+    @Test
+    @DisplayName("Invalid bounds and short inputs should be rejected")
+    void testInvalidArguments() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new LengthConstrainedKadaneEngine(0, 3)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new LengthConstrainedKadaneEngine(4, 3)),
+            () -> assertThrows(IllegalArgumentException.class,
+                    () -> new LengthConstrainedKadaneEngine(2, 3).findMaximumSubarray(new int[]{1})),
+            () -> assertThrows(IllegalArgumentException.class,
+                    () -> new LengthConstrainedKadaneEngine(1, 3).findMaximumSubarray(null))
+        );
+    }
+
+    /**
+     * Reference scan in (end, start) order keeping the first strictly better sum
+     */
+    private String bruteForce(int[] nums, int minLength, int maxLength) {
+        long bestSum = Long.MIN_VALUE;
+        int bestStart = 0;
+        int bestEnd = 0;
+        for (int end = 0; end < nums.length; end++) {
+            for (int start = 0; start <= end; start++) {
+                int length = end - start + 1;
+                if (length < minLength || length > maxLength) {
+                    continue;
+                }
+                long sum = 0;
+                for (int i = start; i <= end; i++) {
+                    sum += nums[i];
+                }
+                if (sum > bestSum) {
+                    bestSum = sum;
+                    bestStart = start;
+                    bestEnd = end;
+                }
+            }
+        }
+        return new LongMaximumSubarrayResult(bestSum, bestStart, bestEnd).toString();
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
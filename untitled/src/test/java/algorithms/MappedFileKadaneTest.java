@@ -0,0 +1,105 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Memory-Mapped File Kadane Tests")
+class MappedFileKadaneTest {
+    @TempDir
+    Path tempDir;
+
+    private ForkJoinPool pool;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        random = new Random(42);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {4, 12, 64, 4096, MappedFileKadane.DEFAULT_WINDOW_BYTES})
+    @DisplayName("Should match the in-memory scan for any window size")
+    void testMatchesInMemoryScan(long windowBytes) throws IOException {
+        MappedFileKadane mapped = new MappedFileKadane(pool, windowBytes);
+        FastKadaneEngine reference = new FastKadaneEngine();
+
+        for (int i = 0; i < 20; i++) {
+            int[] nums = new int[1 + random.nextInt(2000)];
+            for (int j = 0; j < nums.length; j++) {
+                nums[j] = random.nextInt(21) - 10;
+            }
+            Path file = writeInts(nums);
+
+            assertEquals(reference.findMaximumSubarray(nums).toString(),
+                    mapped.findMaximumSubarray(file).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Mapped range sums should match brute force across window boundaries")
+    void testRangeSum() throws IOException {
+        MappedFileKadane mapped = new MappedFileKadane(pool, 64);
+        int[] nums = new int[1000];
+        for (int j = 0; j < nums.length; j++) {
+            nums[j] = random.nextInt(21) - 10;
+        }
+        Path file = writeInts(nums);
+
+        for (int q = 0; q < 100; q++) {
+            int l = random.nextInt(nums.length);
+            int r = l + random.nextInt(nums.length - l);
+            long expected = 0;
+            for (int j = l; j <= r; j++) {
+                expected += nums[j];
+            }
+            assertEquals(expected, mapped.rangeSum(file, l, r));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.rangeSum(file, 0, nums.length));
+        assertThrows(IllegalArgumentException.class, () -> mapped.rangeSum(file, 5, 4));
+    }
+
+    @Test
+    @DisplayName("Should round window sizes down to whole ints")
+    void testWindowRounding() {
+        assertEquals(8, new MappedFileKadane(pool, 10).getWindowBytes());
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileKadane(pool, 3));
+    }
+
+    @Test
+    @DisplayName("Should reject empty and misaligned files")
+    void testInvalidFiles() throws IOException {
+        MappedFileKadane mapped = new MappedFileKadane(pool);
+        Path empty = Files.write(tempDir.resolve("empty.bin"), new byte[0]);
+        Path misaligned = Files.write(tempDir.resolve("misaligned.bin"), new byte[6]);
+
+        assertThrows(IllegalArgumentException.class, () -> mapped.findMaximumSubarray(empty));
+        assertThrows(IllegalArgumentException.class, () -> mapped.findMaximumSubarray(misaligned));
+    }
+
+    private Path writeInts(int[] nums) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(nums.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asIntBuffer().put(nums);
+        return Files.write(Files.createTempFile(tempDir, "series", ".bin"), bytes.array());
+    }
+}
@@ -0,0 +1,108 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Maximum Average Subarray Engine Tests")
+class MaxAverageSubarrayEngineTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 9})
+    @DisplayName("Averages should be within tolerance of a brute force")
+    void testMatchesBruteForce(int minLength) {
+        Random random = new Random(42);
+        MaxAverageSubarrayEngine engine = new MaxAverageSubarrayEngine(minLength);
+
+        for (int trial = 0; trial < 100; trial++) {
+            int[] nums = generateRandomArray(random, minLength + random.nextInt(40));
+            MaxAverageSubarrayEngine.Result result = engine.findMaximumAverage(nums);
+
+            assertResultConsistent(nums, minLength, result);
+            assertEquals(bruteForce(nums, minLength), result.getAverage(), 1e-5, "Trial " + trial);
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel feasibility checks should find the same optimum")
+    void testParallelChecks() {
+        Random random = new Random(42);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MaxAverageSubarrayEngine parallel = new MaxAverageSubarrayEngine(
+                    5, MaxAverageSubarrayEngine.DEFAULT_TOLERANCE, pool, 64);
+
+            for (int trial = 0; trial < 10; trial++) {
+                int[] nums = generateRandomArray(random, 2000);
+                MaxAverageSubarrayEngine.Result result = parallel.findMaximumAverage(nums);
+
+                assertResultConsistent(nums, 5, result);
+                assertEquals(bruteForce(nums, 5), result.getAverage(), 1e-5, "Trial " + trial);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Known example should return the classic answer")
+    void testKnownExample() {
+        int[] nums = {1, 12, -5, -6, 50, 3};
+        MaxAverageSubarrayEngine.Result result = new MaxAverageSubarrayEngine(4).findMaximumAverage(nums);
+
+        assertEquals(12.75, result.getAverage(), 1e-9);
+        assertEquals(1, result.getStartIndex());
+        assertEquals(4, result.getEndIndex());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void testInvalidArguments() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new MaxAverageSubarrayEngine(0)),
+            () -> assertThrows(IllegalArgumentException.class,
+                    () -> new MaxAverageSubarrayEngine(1, 0, ForkJoinPool.commonPool(), 1)),
+            () -> assertThrows(IllegalArgumentException.class,
+                    () -> new MaxAverageSubarrayEngine(3).findMaximumAverage(new int[]{1, 2})),
+            () -> assertThrows(IllegalArgumentException.class,
+                    () -> new MaxAverageSubarrayEngine(1).findMaximumAverage(null))
+        );
+    }
+
+    private void assertResultConsistent(int[] nums, int minLength, MaxAverageSubarrayEngine.Result result) {
+        assertTrue(result.getLength() >= minLength, "Segment shorter than the minimum length");
+        long sum = 0;
+        for (int i = result.getStartIndex(); i <= result.getEndIndex(); i++) {
+            sum += nums[i];
+        }
+        assertEquals(sum, result.getSum());
+    }
+
+    private double bruteForce(int[] nums, int minLength) {
+        double best = Double.NEGATIVE_INFINITY;
+        for (int start = 0; start < nums.length; start++) {
+            long sum = 0;
+            for (int end = start; end < nums.length; end++) {
+                sum += nums[end];
+                if (end - start + 1 >= minLength) {
+                    best = Math.max(best, (double) sum / (end - start + 1));
+                }
+            }
+        }
+        return best;
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
@@ -0,0 +1,124 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Maximum Product Engine Tests")
+class MaximumProductEngineTest {
+
+    private final MaximumProductEngine engine = new MaximumProductEngine();
+
+    @Test
+    @DisplayName("Long products should match a brute force and their reported range")
+    void testLongMatchesBruteForce() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 500; trial++) {
+            int[] nums = new int[1 + random.nextInt(20)];
+            for (int i = 0; i < nums.length; i++) {
+                nums[i] = random.nextInt(7) - 3;
+            }
+            MaximumProductEngine.ProductResult result = engine.findMaximumProduct(nums);
+
+            long expected = Long.MIN_VALUE;
+            for (int start = 0; start < nums.length; start++) {
+                long product = 1;
+                for (int end = start; end < nums.length; end++) {
+                    product *= nums[end];
+                    expected = Math.max(expected, product);
+                }
+            }
+            long rangeProduct = 1;
+            for (int i = result.getStartIndex(); i <= result.getEndIndex(); i++) {
+                rangeProduct *= nums[i];
+            }
+
+            assertEquals(expected, result.getProduct(), "Trial " + trial + ": " + Arrays.toString(nums));
+            assertEquals(result.getProduct(), rangeProduct, "Range must multiply to the reported product");
+            assertFalse(result.isOverflowed());
+        }
+    }
+
+    @Test
+    @DisplayName("Known examples should return the expected ranges")
+    void testKnownExamples() {
+        assertAll(
+            () -> assertEquals("Max Product: 6, Range: [0, 1]",
+                    engine.findMaximumProduct(new int[]{2, 3, -2, 4}).toString()),
+            () -> assertEquals("Max Product: 0, Range: [0, 1]",
+                    engine.findMaximumProduct(new int[]{-2, 0, -1}).toString()),
+            () -> assertEquals("Max Product: 24, Range: [0, 2]",
+                    engine.findMaximumProduct(new int[]{-2, 3, -4}).toString())
+        );
+    }
+
+    @Test
+    @DisplayName("Overflowing products should saturate and be flagged")
+    void testOverflowSaturates() {
+        MaximumProductEngine.ProductResult result = engine.findMaximumProduct(
+                new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, -1, -1});
+
+        assertTrue(result.isOverflowed());
+        assertEquals(Long.MAX_VALUE, result.getProduct());
+    }
+
+    @Test
+    @DisplayName("Log-domain products should match a brute force in double")
+    void testLogMatchesBruteForce() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 300; trial++) {
+            double[] values = new double[1 + random.nextInt(15)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(10) == 0 ? 0.0 : (random.nextDouble() * 4 - 2);
+            }
+            MaximumProductEngine.LogProductResult result = engine.findMaximumProductLog(values);
+
+            double expected = Double.NEGATIVE_INFINITY;
+            for (int start = 0; start < values.length; start++) {
+                double product = 1;
+                for (int end = start; end < values.length; end++) {
+                    product *= values[end];
+                    expected = Math.max(expected, product);
+                }
+            }
+            double rangeProduct = 1;
+            for (int i = result.getStartIndex(); i <= result.getEndIndex(); i++) {
+                rangeProduct *= values[i];
+            }
+
+            assertEquals(expected, result.getProduct(), 1e-9 * Math.max(1, Math.abs(expected)), "Trial " + trial);
+            assertEquals(rangeProduct, result.getProduct(), 1e-9 * Math.max(1, Math.abs(rangeProduct)));
+        }
+    }
+
+    @Test
+    @DisplayName("Log-domain products should stay finite where doubles would overflow")
+    void testLogDomainAvoidsOverflow() {
+        double[] values = new double[3000];
+        Arrays.fill(values, 2.0);
+        values[1500] = -1.0;
+
+        MaximumProductEngine.LogProductResult result = engine.findMaximumProductLog(values);
+
+        assertEquals(1, result.getSign());
+        assertEquals(1500 * Math.log(2.0), result.getLogMagnitude(), 1e-6);
+        assertEquals(0, result.getStartIndex());
+        assertEquals(1499, result.getEndIndex());
+        assertTrue(Double.isInfinite(result.getProduct()));
+    }
+
+    @Test
+    @DisplayName("Invalid input should be rejected")
+    void testInvalidInput() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findMaximumProduct(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findMaximumProduct(new int[0])),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findMaximumProductLog(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findMaximumProductLog(new double[0]))
+        );
+    }
+}
@@ -0,0 +1,164 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Maximum Subarray Engine Tests")
+class MaximumSubarrayEngineTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(42);
+    }
+
+    @Test
+    @DisplayName("Fast engine should match the instrumented scan")
+    void testFastEngineMatchesInstrumentedScan() {
+        KadaneAlgorithm instrumented = new KadaneAlgorithm();
+        FastKadaneEngine fast = new FastKadaneEngine();
+
+        for (int i = 0; i < 200; i++) {
+            int[] nums = generateRandomArray(1 + random.nextInt(60), -50, 50);
+            KadaneAlgorithm.MaximumSubarrayResult expected = instrumented.findMaximumSubarray(nums);
+            KadaneAlgorithm.MaximumSubarrayResult actual = fast.findMaximumSubarray(nums);
+
+            assertAll("Fast engine result",
+                    () -> assertEquals(expected.getMaxSum(), actual.getMaxSum()),
+                    () -> assertEquals(expected.getStartIndex(), actual.getStartIndex()),
+                    () -> assertEquals(expected.getEndIndex(), actual.getEndIndex())
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @DisplayName("Fast engine should reject null or empty arrays")
+    void testFastEngineInvalidInputs(int[] invalidArray) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new FastKadaneEngine().findMaximumSubarray(invalidArray));
+    }
+
+    @Test
+    @DisplayName("Uninstrumented algorithm should not record runs")
+    void testUninstrumentedAlgorithmRecordsNothing() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm(new FastKadaneEngine());
+
+        KadaneAlgorithm.MaximumSubarrayResult result =
+                kadane.findMaximumSubarray(new int[]{-2, 1, -3, 4, -1, 2, 1, -5, 4});
+
+        assertEquals(6, result.getMaxSum());
+        assertEquals(0, kadane.getPerformanceTracker().getRunCount());
+    }
+
+    @Test
+    @DisplayName("Tracked algorithm should record one run per call")
+    void testTrackedAlgorithmRecordsRuns() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm(new FastKadaneEngine(), true);
+        int[] nums = generateRandomArray(100, -10, 10);
+
+        kadane.findMaximumSubarray(nums);
+        kadane.findMaximumSubarray(nums);
+
+        PerformanceTracker tracker = kadane.getPerformanceTracker();
+        assertEquals(2, tracker.getRunCount());
+        assertThat(tracker.getRunHistory().get(0).get("arrayAccesses")).isEqualTo(100);
+        assertThat(kadane.getEngine()).isInstanceOf(InstrumentedEngine.class);
+    }
+
+    @Test
+    @DisplayName("Heap and direct buffers should match the array scan")
+    void testBuffersMatchArrayScan() {
+        FastKadaneEngine fast = new FastKadaneEngine();
+
+        for (int i = 0; i < 50; i++) {
+            int[] nums = generateRandomArray(1 + random.nextInt(100), -20, 20);
+            String expected = fast.findMaximumSubarray(nums).toString();
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(nums.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            direct.asIntBuffer().put(nums);
+            ByteBuffer heapBigEndian = ByteBuffer.allocate(nums.length * Integer.BYTES);
+            heapBigEndian.asIntBuffer().put(nums);
+
+            assertAll("Buffer results",
+                    () -> assertEquals(expected, fast.findMaximumSubarray(IntBuffer.wrap(nums)).toString()),
+                    () -> assertEquals(expected, fast.findMaximumSubarray(direct.asIntBuffer()).toString()),
+                    () -> assertEquals(expected, fast.findMaximumSubarray(direct).toString()),
+                    () -> assertEquals(expected, fast.findMaximumSubarray(heapBigEndian).toString())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Buffers should be scanned between position and limit without moving them")
+    void testBufferPositionAndLimit() {
+        FastKadaneEngine fast = new FastKadaneEngine();
+        IntBuffer buffer = IntBuffer.wrap(new int[]{100, -2, 1, -3, 4, -1, 2, 1, -5, 4, 100});
+        buffer.position(1).limit(10);
+
+        KadaneAlgorithm.MaximumSubarrayResult result = fast.findMaximumSubarray(buffer);
+
+        assertAll("Windowed buffer",
+                () -> assertEquals(6, result.getMaxSum()),
+                () -> assertEquals(3, result.getStartIndex()),
+                () -> assertEquals(6, result.getEndIndex()),
+                () -> assertEquals(1, buffer.position()),
+                () -> assertEquals(10, buffer.limit())
+        );
+        assertThrows(IllegalArgumentException.class,
+                () -> fast.findMaximumSubarray(ByteBuffer.allocate(6)));
+    }
+
+    @Test
+    @DisplayName("Allocation-free variants should match the allocating scan")
+    void testAllocationFreeVariants() {
+        FastKadaneEngine fast = new FastKadaneEngine();
+        MutableSubarrayResult holder = new MutableSubarrayResult();
+        long[] slots = new long[3 * 4];
+
+        for (int i = 0; i < 200; i++) {
+            int[] nums = generateRandomArray(1 + random.nextInt(60), -50, 50);
+            KadaneAlgorithm.MaximumSubarrayResult expected = fast.findMaximumSubarray(nums);
+            int slot = i % 4;
+
+            fast.findMaximumSubarray(nums, holder);
+            fast.findMaximumSubarray(nums, slots, slot);
+            long packed = fast.findMaximumSubarrayPacked(nums);
+
+            assertAll("Allocation-free results",
+                    () -> assertEquals(expected.toString(), holder.toString()),
+                    () -> assertEquals(expected.getMaxSum(), slots[3 * slot]),
+                    () -> assertEquals(expected.getStartIndex(), slots[3 * slot + 1]),
+                    () -> assertEquals(expected.getEndIndex(), slots[3 * slot + 2]),
+                    () -> assertEquals(expected.getStartIndex(), FastKadaneEngine.packedStart(packed)),
+                    () -> assertEquals(expected.getEndIndex(), FastKadaneEngine.packedEnd(packed))
+            );
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> fast.findMaximumSubarray(new int[]{1}, slots, 4));
+        // 3 * slot overflows here; the slot must be rejected, not surface as an array access failure
+        assertThrowsExactly(IndexOutOfBoundsException.class,
+                () -> fast.findMaximumSubarray(new int[]{1}, slots, Integer.MAX_VALUE / 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> fast.findMaximumSubarray(new int[]{1}, new long[2], 0));
+        assertThrows(IllegalArgumentException.class, () -> fast.findMaximumSubarray(new int[0], holder));
+    }
+
+    private int[] generateRandomArray(int size, int min, int max) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(max - min + 1) + min;
+        }
+        return array;
+    }
+}
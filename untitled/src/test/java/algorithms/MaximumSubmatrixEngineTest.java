@@ -0,0 +1,124 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Maximum Submatrix Engine Tests")
+class MaximumSubmatrixEngineTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "1, 9", "9, 1", "4, 7", "7, 4", "12, 12"})
+    @DisplayName("Results should match a brute-force search over all rectangles")
+    void testMatchesBruteForce(int rows, int columns) {
+        Random random = new Random(42);
+        MaximumSubmatrixEngine engine = new MaximumSubmatrixEngine();
+
+        for (int trial = 0; trial < 20; trial++) {
+            int[][] grid = generateRandomGrid(random, rows, columns);
+            SubmatrixResult result = engine.findMaximumSubmatrix(grid);
+
+            assertEquals(bruteForce(grid), result.getMaxSum());
+            assertEquals(result.getMaxSum(), rectangleSum(grid, result), "Bounds must enclose the reported sum");
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel search should return exactly the sequential rectangle")
+    void testParallelMatchesSequential() {
+        Random random = new Random(42);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MaximumSubmatrixEngine sequential = new MaximumSubmatrixEngine(pool, Long.MAX_VALUE);
+            MaximumSubmatrixEngine parallel = new MaximumSubmatrixEngine(pool, 1);
+
+            for (int trial = 0; trial < 10; trial++) {
+                int[][] grid = generateRandomGrid(random, 40, 60);
+                assertEquals(sequential.findMaximumSubmatrix(grid).toString(),
+                             parallel.findMaximumSubmatrix(grid).toString());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Flat row-major input should match the 2D input")
+    void testFlatInput() {
+        int[][] grid = {
+            {1, 2, -1, -4, -20},
+            {-8, -3, 4, 2, 1},
+            {3, 8, 10, 1, 3},
+            {-4, -1, 1, 7, -6}
+        };
+        int[] flat = new int[20];
+        for (int row = 0; row < 4; row++) {
+            System.arraycopy(grid[row], 0, flat, row * 5, 5);
+        }
+        MaximumSubmatrixEngine engine = new MaximumSubmatrixEngine();
+
+        SubmatrixResult result = engine.findMaximumSubmatrix(flat, 4, 5);
+
+        assertEquals(engine.findMaximumSubmatrix(grid).toString(), result.toString());
+        assertAll(
+            () -> assertEquals(29, result.getMaxSum()),
+            () -> assertEquals(1, result.getTop()),
+            () -> assertEquals(1, result.getLeft()),
+            () -> assertEquals(3, result.getBottom()),
+            () -> assertEquals(3, result.getRight())
+        );
+    }
+
+    @Test
+    @DisplayName("Invalid grids should be rejected")
+    void testInvalidInput() {
+        MaximumSubmatrixEngine engine = new MaximumSubmatrixEngine();
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findMaximumSubmatrix(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findMaximumSubmatrix(new int[0][])),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findMaximumSubmatrix(new int[][]{{1, 2}, {3}})),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findMaximumSubmatrix(new int[5], 2, 3))
+        );
+    }
+
+    private long bruteForce(int[][] grid) {
+        long best = Long.MIN_VALUE;
+        for (int top = 0; top < grid.length; top++) {
+            for (int bottom = top; bottom < grid.length; bottom++) {
+                for (int left = 0; left < grid[0].length; left++) {
+                    for (int right = left; right < grid[0].length; right++) {
+                        best = Math.max(best, rectangleSum(grid, new SubmatrixResult(0, top, left, bottom, right)));
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private long rectangleSum(int[][] grid, SubmatrixResult rectangle) {
+        long sum = 0;
+        for (int row = rectangle.getTop(); row <= rectangle.getBottom(); row++) {
+            for (int column = rectangle.getLeft(); column <= rectangle.getRight(); column++) {
+                sum += grid[row][column];
+            }
+        }
+        return sum;
+    }
+
+    private int[][] generateRandomGrid(Random random, int rows, int columns) {
+        int[][] grid = new int[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                grid[row][column] = random.nextInt(21) - 10;
+            }
+        }
+        return grid;
+    }
+}
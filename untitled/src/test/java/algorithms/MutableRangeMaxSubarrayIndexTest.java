@@ -0,0 +1,110 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Mutable Range Maximum Subarray Index Tests")
+class MutableRangeMaxSubarrayIndexTest {
+
+    private final FastKadaneEngine reference = new FastKadaneEngine();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 16})
+    @DisplayName("Interleaved updates and queries should match a rescan")
+    void testMixedWorkload(int blockSize) {
+        Random random = new Random(42);
+        int[] expected = generateRandomArray(random, 300);
+        MutableRangeMaxSubarrayIndex index = new MutableRangeMaxSubarrayIndex(expected, blockSize);
+
+        for (int op = 0; op < 3000; op++) {
+            if (random.nextBoolean()) {
+                int i = random.nextInt(expected.length);
+                int value = random.nextInt(21) - 10;
+                expected[i] = value;
+                index.update(i, value);
+            } else {
+                int l = random.nextInt(expected.length);
+                int r = l + random.nextInt(expected.length - l);
+                assertMatches(expected, index, l, r);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 64})
+    @DisplayName("Bulk updates should leave the index consistent with the data")
+    void testBulkUpdate(int blockSize) {
+        Random random = new Random(42);
+        int[] expected = generateRandomArray(random, 1000);
+        MutableRangeMaxSubarrayIndex index = new MutableRangeMaxSubarrayIndex(expected, blockSize);
+
+        for (int round = 0; round < 20; round++) {
+            int[] indices = new int[1 + random.nextInt(50)];
+            int[] values = new int[indices.length];
+            for (int k = 0; k < indices.length; k++) {
+                indices[k] = random.nextInt(expected.length);
+                values[k] = random.nextInt(21) - 10;
+                expected[indices[k]] = values[k];
+            }
+            index.updateAll(indices, values);
+
+            for (int q = 0; q < 50; q++) {
+                int l = random.nextInt(expected.length);
+                int r = l + random.nextInt(expected.length - l);
+                assertMatches(expected, index, l, r);
+            }
+            assertMatches(expected, index, 0, expected.length - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("The caller's array should not be modified by updates")
+    void testWorksOnCopy() {
+        int[] nums = {1, -2, 3};
+        MutableRangeMaxSubarrayIndex index = new MutableRangeMaxSubarrayIndex(nums);
+
+        index.update(1, 10);
+
+        assertEquals(-2, nums[1]);
+        assertEquals(10, index.get(1));
+        assertEquals(14, index.whole().getMaxSum());
+    }
+
+    @Test
+    @DisplayName("Invalid updates should be rejected")
+    void testInvalidUpdates() {
+        MutableRangeMaxSubarrayIndex index = new MutableRangeMaxSubarrayIndex(new int[]{1, 2, 3});
+
+        assertAll(
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> index.update(3, 0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> index.updateAll(new int[]{0, -1}, new int[]{0, 0})),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.updateAll(new int[]{0}, new int[0])),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.updateAll(null, new int[0]))
+        );
+    }
+
+    private void assertMatches(int[] nums, RangeMaxSubarrayIndex index, int l, int r) {
+        KadaneAlgorithm.MaximumSubarrayResult expected =
+                reference.findMaximumSubarray(Arrays.copyOfRange(nums, l, r + 1));
+        LongMaximumSubarrayResult actual = index.query(l, r);
+
+        assertEquals(expected.getMaxSum(), actual.getMaxSum(), "Sum of [" + l + ", " + r + "]");
+        assertEquals(l + expected.getStartIndex(), actual.getStartIndex(), "Start of [" + l + ", " + r + "]");
+        assertEquals(l + expected.getEndIndex(), actual.getEndIndex(), "End of [" + l + ", " + r + "]");
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
@@ -0,0 +1,114 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Overflow-Safe Kadane Engine Tests")
+class OverflowSafeKadaneEngineTest {
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(42);
+    }
+
+    @Test
+    @DisplayName("Should sum Integer.MAX_VALUE elements without wrapping")
+    void testMaxIntegerValues() {
+        int[] nums = {Integer.MAX_VALUE, Integer.MAX_VALUE};
+        LongMaximumSubarrayResult result = new OverflowSafeKadaneEngine().findMaximumSubarrayLong(nums);
+
+        assertAll("Max integer values",
+                () -> assertEquals(Integer.MAX_VALUE * 2L, result.getMaxSum()),
+                () -> assertEquals(0, result.getStartIndex()),
+                () -> assertEquals(1, result.getEndIndex())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 16, 1024})
+    @DisplayName("Should handle long positive runs that cross block boundaries")
+    void testLargePositiveRun(int blockSize) {
+        int[] nums = new int[5000];
+        Arrays.fill(nums, 1_000_000_000);
+        nums[0] = -5;
+        nums[4999] = -5;
+
+        LongMaximumSubarrayResult result = new OverflowSafeKadaneEngine(blockSize).findMaximumSubarrayLong(nums);
+
+        assertAll("Large positive run",
+                () -> assertEquals(4998L * 1_000_000_000L, result.getMaxSum()),
+                () -> assertEquals(1, result.getStartIndex()),
+                () -> assertEquals(4998, result.getEndIndex())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 64})
+    @DisplayName("Should match brute force on arrays mixing huge and small values")
+    void testAgainstBruteForce(int blockSize) {
+        OverflowSafeKadaneEngine engine = new OverflowSafeKadaneEngine(blockSize);
+
+        for (int i = 0; i < 200; i++) {
+            int[] nums = new int[1 + random.nextInt(40)];
+            for (int j = 0; j < nums.length; j++) {
+                nums[j] = random.nextBoolean() ? random.nextInt() : random.nextInt(11) - 5;
+            }
+
+            LongMaximumSubarrayResult result = engine.findMaximumSubarrayLong(nums);
+            long actualSum = 0;
+            for (long j = result.getStartIndex(); j <= result.getEndIndex(); j++) {
+                actualSum += nums[(int) j];
+            }
+
+            assertEquals(bruteForceMaximum(nums), result.getMaxSum(), "Sum for " + Arrays.toString(nums));
+            assertEquals(result.getMaxSum(), actualSum, "Indices for " + Arrays.toString(nums));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the fast engine when no overflow occurs")
+    void testMatchesFastEngine() {
+        OverflowSafeKadaneEngine engine = new OverflowSafeKadaneEngine(8);
+        FastKadaneEngine fast = new FastKadaneEngine();
+
+        for (int i = 0; i < 100; i++) {
+            int[] nums = new int[1 + random.nextInt(100)];
+            for (int j = 0; j < nums.length; j++) {
+                nums[j] = random.nextInt(21) - 10;
+            }
+
+            KadaneAlgorithm.MaximumSubarrayResult expected = fast.findMaximumSubarray(nums);
+            KadaneAlgorithm.MaximumSubarrayResult actual = engine.findMaximumSubarray(nums);
+            assertEquals(expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Int result should refuse sums outside the int range")
+    void testIntResultOverflow() {
+        int[] nums = {Integer.MAX_VALUE, 1};
+        assertThrows(ArithmeticException.class,
+                () -> new OverflowSafeKadaneEngine().findMaximumSubarray(nums));
+    }
+
+    private long bruteForceMaximum(int[] nums) {
+        long maxSum = Long.MIN_VALUE;
+        for (int i = 0; i < nums.length; i++) {
+            long currentSum = 0;
+            for (int j = i; j < nums.length; j++) {
+                currentSum += nums[j];
+                maxSum = Math.max(maxSum, currentSum);
+            }
+        }
+        return maxSum;
+    }
+}
@@ -0,0 +1,96 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Parallel Kadane Engine Tests")
+class ParallelKadaneEngineTest {
+    private ForkJoinPool pool;
+    private FastKadaneEngine sequential;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        sequential = new FastKadaneEngine();
+        random = new Random(42);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 64})
+    @DisplayName("Should match sequential scan including indices for any chunk size")
+    void testMatchesSequentialScan(int threshold) {
+        ParallelKadaneEngine parallel = new ParallelKadaneEngine(pool, threshold);
+
+        for (int i = 0; i < 200; i++) {
+            // Narrow value range produces many ties between equal-sum subarrays
+            int[] nums = generateRandomArray(1 + random.nextInt(300), -3, 3);
+            assertSameResult(sequential.findMaximumSubarray(nums), parallel.findMaximumSubarray(nums));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match sequential scan on large arrays")
+    void testLargeArray() {
+        ParallelKadaneEngine parallel = new ParallelKadaneEngine(pool, 1000);
+        int[] nums = generateRandomArray(500_000, -1000, 1000);
+
+        assertSameResult(sequential.findMaximumSubarray(nums), parallel.findMaximumSubarray(nums));
+    }
+
+    @Test
+    @DisplayName("Summary combination should be associative")
+    void testCombineIsAssociative() {
+        int[] nums = generateRandomArray(30, -5, 5);
+        SegmentSummary a = SegmentSummary.of(nums, 0, 10);
+        SegmentSummary b = SegmentSummary.of(nums, 10, 20);
+        SegmentSummary c = SegmentSummary.of(nums, 20, 30);
+
+        SegmentSummary leftFirst = SegmentSummary.combine(SegmentSummary.combine(a, b), c);
+        SegmentSummary rightFirst = SegmentSummary.combine(a, SegmentSummary.combine(b, c));
+        SegmentSummary whole = SegmentSummary.of(nums, 0, 30);
+
+        assertEquals(whole.toString(), leftFirst.toString());
+        assertEquals(whole.toString(), rightFirst.toString());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration and inputs")
+    void testInvalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelKadaneEngine(pool, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelKadaneEngine(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelKadaneEngine(pool).findMaximumSubarray(new int[0]));
+    }
+
+    private void assertSameResult(KadaneAlgorithm.MaximumSubarrayResult expected,
+                                  KadaneAlgorithm.MaximumSubarrayResult actual) {
+        assertAll("Parallel result",
+                () -> assertEquals(expected.getMaxSum(), actual.getMaxSum()),
+                () -> assertEquals(expected.getStartIndex(), actual.getStartIndex()),
+                () -> assertEquals(expected.getEndIndex(), actual.getEndIndex())
+        );
+    }
+
+    private int[] generateRandomArray(int size, int min, int max) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(max - min + 1) + min;
+        }
+        return array;
+    }
+}
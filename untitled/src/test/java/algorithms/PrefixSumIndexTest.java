@@ -0,0 +1,165 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Prefix Sum Index Tests")
+class PrefixSumIndexTest {
+    @TempDir
+    Path tempDir;
+
+    private ForkJoinPool pool;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        random = new Random(42);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Range sums should match brute force")
+    void testRangeSumsMatchBruteForce() {
+        for (int i = 0; i < 20; i++) {
+            int[] nums = generateRandomArray(random, 1 + random.nextInt(500));
+            PrefixSumIndex index = new PrefixSumIndex(nums, pool);
+
+            for (int q = 0; q < 100; q++) {
+                int l = random.nextInt(nums.length);
+                int r = l + random.nextInt(nums.length - l);
+                long expected = 0;
+                for (int j = l; j <= r; j++) {
+                    expected += nums[j];
+                }
+                assertEquals(expected, index.rangeSum(l, r));
+            }
+            assertEquals(Arrays.stream(nums).asLongStream().sum(), index.total());
+        }
+    }
+
+    @Test
+    @DisplayName("Large inputs built in parallel should not overflow")
+    void testParallelBuildWithLargeValues() {
+        int[] nums = new int[200_000];
+        Arrays.fill(nums, Integer.MAX_VALUE);
+        PrefixSumIndex index = new PrefixSumIndex(nums, pool);
+
+        assertAll("Long sums",
+                () -> assertEquals(200_000L * Integer.MAX_VALUE, index.total()),
+                () -> assertEquals(1000L * Integer.MAX_VALUE, index.rangeSum(5000, 5999)),
+                () -> assertEquals(0, index.prefixSum(0)),
+                () -> assertEquals(nums.length, index.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Saved index should load back identically")
+    void testSaveAndLoad() throws IOException {
+        // Large enough to span several I/O chunks
+        int[] nums = generateRandomArray(random, 300_000);
+        PrefixSumIndex index = new PrefixSumIndex(nums, pool);
+        Path file = tempDir.resolve("prefix.idx");
+
+        index.save(file);
+        PrefixSumIndex loaded = PrefixSumIndex.load(file);
+
+        assertEquals(index.size(), loaded.size());
+        for (int count = 0; count <= nums.length; count += 997) {
+            assertEquals(index.prefixSum(count), loaded.prefixSum(count));
+        }
+        assertEquals(index.total(), loaded.total());
+        assertEquals(PrefixSumIndex.HEADER_BYTES + 8L * (nums.length + 1), Files.size(file));
+        byte[] magic = Arrays.copyOf(Files.readAllBytes(file), 4);
+        assertEquals("KPSI", new String(magic, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Index built from a raw int file should match the in-memory build")
+    void testFromIntFile() throws IOException {
+        int[] nums = generateRandomArray(random, 300_000);
+        ByteBuffer bytes = ByteBuffer.allocate(nums.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asIntBuffer().put(nums);
+        Path file = tempDir.resolve("series.bin");
+        Files.write(file, bytes.array());
+
+        PrefixSumIndex expected = new PrefixSumIndex(nums, pool);
+        PrefixSumIndex actual = PrefixSumIndex.fromIntFile(file, pool);
+
+        assertEquals(expected.size(), actual.size());
+        for (int count = 0; count <= nums.length; count += 997) {
+            assertEquals(expected.prefixSum(count), actual.prefixSum(count));
+        }
+        assertEquals(expected.total(), actual.total());
+
+        Files.write(file, new byte[6]);
+        assertThrows(IllegalArgumentException.class, () -> PrefixSumIndex.fromIntFile(file, pool));
+    }
+
+    @Test
+    @DisplayName("Empty arrays should index and persist")
+    void testEmptyArray() throws IOException {
+        PrefixSumIndex index = new PrefixSumIndex(new int[0], pool);
+        Path file = tempDir.resolve("empty.idx");
+        index.save(file);
+
+        assertEquals(0, PrefixSumIndex.load(file).size());
+        assertThrows(IndexOutOfBoundsException.class, () -> index.rangeSum(0, 0));
+    }
+
+    @Test
+    @DisplayName("Corrupt or foreign files should be rejected")
+    void testCorruptFiles() throws IOException {
+        Path file = tempDir.resolve("prefix.idx");
+        new PrefixSumIndex(new int[]{1, 2, 3}).save(file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> PrefixSumIndex.load(file));
+
+        bytes[0] ^= 1;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> PrefixSumIndex.load(file));
+
+        Files.write(file, new byte[3]);
+        assertThrows(IOException.class, () -> PrefixSumIndex.load(file));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid input and ranges")
+    void testInvalidInputs() {
+        PrefixSumIndex index = new PrefixSumIndex(new int[]{1, 2, 3});
+
+        assertThrows(IllegalArgumentException.class, () -> new PrefixSumIndex(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.rangeSum(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.rangeSum(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> index.rangeSum(2, 1));
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
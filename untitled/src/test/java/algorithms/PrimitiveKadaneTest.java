@@ -0,0 +1,87 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Primitive-Specialized Kadane Tests")
+class PrimitiveKadaneTest {
+    private FastKadaneEngine reference;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        reference = new FastKadaneEngine();
+        random = new Random(42);
+    }
+
+    @Test
+    @DisplayName("Every specialization should match the int engine on the same values")
+    void testSpecializationsMatchIntEngine() {
+        for (int i = 0; i < 100; i++) {
+            int[] ints = new int[1 + random.nextInt(50)];
+            for (int j = 0; j < ints.length; j++) {
+                ints[j] = random.nextInt(41) - 20;
+            }
+
+            long[] longs = new long[ints.length];
+            double[] doubles = new double[ints.length];
+            float[] floats = new float[ints.length];
+            short[] shorts = new short[ints.length];
+            byte[] bytes = new byte[ints.length];
+            for (int j = 0; j < ints.length; j++) {
+                longs[j] = ints[j];
+                doubles[j] = ints[j];
+                floats[j] = ints[j];
+                shorts[j] = (short) ints[j];
+                bytes[j] = (byte) ints[j];
+            }
+
+            KadaneAlgorithm.MaximumSubarrayResult expected = reference.findMaximumSubarray(ints);
+            String expectedText = expected.toString();
+
+            assertAll("Specializations",
+                    () -> assertEquals(expectedText, PrimitiveKadane.findMaximumSubarray(longs).toString()),
+                    () -> assertEquals(expectedText, PrimitiveKadane.findMaximumSubarray(shorts).toString()),
+                    () -> assertEquals(expectedText, PrimitiveKadane.findMaximumSubarray(bytes).toString()),
+                    () -> assertEquals(expected.getMaxSum(), PrimitiveKadane.findMaximumSubarray(doubles).getMaxSum()),
+                    () -> assertEquals(expected.getStartIndex(), PrimitiveKadane.findMaximumSubarray(doubles).getStartIndex()),
+                    () -> assertEquals(expected.getEndIndex(), PrimitiveKadane.findMaximumSubarray(floats).getEndIndex())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Long specialization should hold sums beyond the int range")
+    void testLongSumsBeyondIntRange() {
+        long[] nums = {-1, Integer.MAX_VALUE, Integer.MAX_VALUE, -1};
+        LongMaximumSubarrayResult result = PrimitiveKadane.findMaximumSubarray(nums);
+
+        assertEquals(2L * Integer.MAX_VALUE, result.getMaxSum());
+        assertEquals(1, result.getStartIndex());
+        assertEquals(2, result.getEndIndex());
+    }
+
+    @Test
+    @DisplayName("Double specialization should handle fractional P&L series")
+    void testFractionalValues() {
+        double[] pnl = {0.5, -1.25, 2.5, -0.5, 1.0, -3.0};
+        DoubleMaximumSubarrayResult result = PrimitiveKadane.findMaximumSubarray(pnl);
+
+        assertEquals(3.0, result.getMaxSum(), 1e-12);
+        assertEquals(2, result.getStartIndex());
+        assertEquals(4, result.getEndIndex());
+    }
+
+    @Test
+    @DisplayName("Should reject null and empty arrays")
+    void testInvalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveKadane.findMaximumSubarray((long[]) null));
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveKadane.findMaximumSubarray(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveKadane.findMaximumSubarray(new byte[0]));
+    }
+}
@@ -0,0 +1,116 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Range Maximum Subarray Index Tests")
+class RangeMaxSubarrayIndexTest {
+
+    private final FastKadaneEngine reference = new FastKadaneEngine();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 64})
+    @DisplayName("Random ranges should match a rescan of the copied range")
+    void testMatchesRescan(int blockSize) {
+        Random random = new Random(42);
+        int[] nums = generateRandomArray(random, 1000);
+        RangeMaxSubarrayIndex index = new RangeMaxSubarrayIndex(nums, blockSize);
+
+        for (int q = 0; q < 2000; q++) {
+            int l = random.nextInt(nums.length);
+            int r = l + random.nextInt(nums.length - l);
+            assertMatches(nums, index, l, r);
+        }
+    }
+
+    @Test
+    @DisplayName("Every range of a small array should match a rescan")
+    void testAllRangesSmallArray() {
+        int[] nums = generateRandomArray(new Random(42), 37);
+        RangeMaxSubarrayIndex index = new RangeMaxSubarrayIndex(nums, 4);
+
+        for (int l = 0; l < nums.length; l++) {
+            for (int r = l; r < nums.length; r++) {
+                assertMatches(nums, index, l, r);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel build should produce the same answers as a sequential scan")
+    void testParallelBuild() {
+        Random random = new Random(42);
+        int[] nums = generateRandomArray(random, 1 << 16);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // One element per block forces the parallel build path
+            RangeMaxSubarrayIndex index = new RangeMaxSubarrayIndex(nums, 1, pool);
+            assertEquals(reference.findMaximumSubarray(nums).toString(), toIntResult(index.whole()));
+
+            for (int q = 0; q < 200; q++) {
+                int l = random.nextInt(nums.length);
+                int r = l + random.nextInt(nums.length - l);
+                assertMatches(nums, index, l, r);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Sums beyond the int range should be reported exactly")
+    void testLongSums() {
+        int[] nums = new int[100];
+        Arrays.fill(nums, Integer.MAX_VALUE);
+        RangeMaxSubarrayIndex index = new RangeMaxSubarrayIndex(nums, 8);
+
+        assertEquals(90L * Integer.MAX_VALUE, index.querySum(5, 94));
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void testInvalidArguments() {
+        int[] nums = {1, 2, 3};
+        RangeMaxSubarrayIndex index = new RangeMaxSubarrayIndex(nums);
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> new RangeMaxSubarrayIndex(null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> new RangeMaxSubarrayIndex(new int[0])),
+            () -> assertThrows(IllegalArgumentException.class, () -> new RangeMaxSubarrayIndex(nums, 0)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> index.query(-1, 1)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> index.query(0, 3)),
+            () -> assertThrows(IllegalArgumentException.class, () -> index.query(2, 1))
+        );
+    }
+
+    private void assertMatches(int[] nums, RangeMaxSubarrayIndex index, int l, int r) {
+        KadaneAlgorithm.MaximumSubarrayResult expected =
+                reference.findMaximumSubarray(Arrays.copyOfRange(nums, l, r + 1));
+        LongMaximumSubarrayResult actual = index.query(l, r);
+
+        assertEquals(expected.getMaxSum(), actual.getMaxSum(), "Sum of [" + l + ", " + r + "]");
+        assertEquals(l + expected.getStartIndex(), actual.getStartIndex(), "Start of [" + l + ", " + r + "]");
+        assertEquals(l + expected.getEndIndex(), actual.getEndIndex(), "End of [" + l + ", " + r + "]");
+    }
+
+    private String toIntResult(LongMaximumSubarrayResult result) {
+        return new KadaneAlgorithm.MaximumSubarrayResult(
+                (int) result.getMaxSum(), (int) result.getStartIndex(), (int) result.getEndIndex()).toString();
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
@@ -0,0 +1,68 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Sliding Window Kadane Tests")
+class SlidingWindowKadaneTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5, 17, 64})
+    @DisplayName("Every tick should match a rescan of the copied window")
+    void testMatchesRescanEveryTick(int windowSize) {
+        Random random = new Random(42);
+        FastKadaneEngine reference = new FastKadaneEngine();
+        SlidingWindowKadane window = new SlidingWindowKadane(windowSize);
+        int[] stream = new int[500];
+
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = random.nextInt(11) - 5;
+            window.push(stream[i]);
+
+            int from = Math.max(0, i + 1 - windowSize);
+            KadaneAlgorithm.MaximumSubarrayResult expected =
+                    reference.findMaximumSubarray(Arrays.copyOfRange(stream, from, i + 1));
+
+            assertEquals(expected.getMaxSum(), window.getMaxSum(), "Sum at tick " + i);
+            assertEquals(from + expected.getStartIndex(), window.getStartIndex(), "Start at tick " + i);
+            assertEquals(from + expected.getEndIndex(), window.getEndIndex(), "End at tick " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Explicit evictions should shrink the window")
+    void testExplicitEviction() {
+        SlidingWindowKadane window = new SlidingWindowKadane(4);
+        window.push(5);
+        window.push(-10);
+        window.push(3);
+
+        window.evict();
+
+        assertEquals(2, window.size());
+        LongMaximumSubarrayResult result = window.current();
+        assertEquals(3, result.getMaxSum());
+        assertEquals(2, result.getStartIndex());
+        assertEquals(2, result.getEndIndex());
+    }
+
+    @Test
+    @DisplayName("Empty windows should be rejected")
+    void testEmptyWindow() {
+        SlidingWindowKadane window = new SlidingWindowKadane(3);
+        assertThrows(IllegalStateException.class, window::current);
+        assertThrows(IllegalStateException.class, window::evict);
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowKadane(0));
+
+        window.push(1);
+        window.clear();
+        assertTrue(window.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Streaming Kadane Tests")
+class StreamingKadaneTest {
+    private StreamingKadane stream;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        stream = new StreamingKadane();
+        random = new Random(42);
+    }
+
+    @Test
+    @DisplayName("Chunked input should match a single scan of the concatenation")
+    void testChunkedMatchesWholeScan() {
+        FastKadaneEngine reference = new FastKadaneEngine();
+
+        for (int i = 0; i < 100; i++) {
+            int[] nums = new int[1 + random.nextInt(200)];
+            for (int j = 0; j < nums.length; j++) {
+                nums[j] = random.nextInt(11) - 5;
+            }
+
+            stream.reset();
+            int offset = 0;
+            while (offset < nums.length) {
+                int length = Math.min(nums.length - offset, random.nextInt(17));
+                if (random.nextBoolean() && length > 0) {
+                    stream.accept(nums[offset]);
+                    length = 1;
+                } else {
+                    stream.accept(nums, offset, length);
+                }
+                offset += length;
+            }
+
+            assertEquals(reference.findMaximumSubarray(nums).toString(), stream.current().toString());
+            assertEquals(nums.length, stream.getCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Offsets should grow past the int range without overflowing sums")
+    void testLongOffsetsAndSums() {
+        int[] chunk = new int[1 << 20];
+        Arrays.fill(chunk, Integer.MAX_VALUE);
+
+        for (int i = 0; i < 4; i++) {
+            stream.accept(chunk);
+        }
+
+        LongMaximumSubarrayResult result = stream.current();
+        assertEquals(4L * chunk.length * Integer.MAX_VALUE, result.getMaxSum());
+        assertEquals(0, result.getStartIndex());
+        assertEquals(4L * chunk.length - 1, result.getEndIndex());
+    }
+
+    @Test
+    @DisplayName("Querying an empty stream should fail")
+    void testEmptyStream() {
+        assertTrue(stream.isEmpty());
+        assertThrows(IllegalStateException.class, () -> stream.current());
+    }
+
+    @Test
+    @DisplayName("Should reject out-of-range chunk slices")
+    void testInvalidSlice() {
+        int[] chunk = {1, 2, 3};
+        assertThrows(IndexOutOfBoundsException.class, () -> stream.accept(chunk, 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> stream.accept(null));
+    }
+}
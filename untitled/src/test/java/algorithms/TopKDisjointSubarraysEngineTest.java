@@ -0,0 +1,113 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Top-k Disjoint Subarrays Engine Tests")
+class TopKDisjointSubarraysEngineTest {
+
+    @Test
+    @DisplayName("Results should match repeated masking and rescanning")
+    void testMatchesMaskAndRescan() {
+        Random random = new Random(42);
+        TopKDisjointSubarraysEngine engine = new TopKDisjointSubarraysEngine(
+                ForkJoinPool.commonPool(), 4);
+
+        for (int trial = 0; trial < 100; trial++) {
+            int[] nums = generateRandomArray(random, 1 + random.nextInt(80));
+            int k = random.nextInt(nums.length + 3);
+
+            assertEquals(maskAndRescan(nums, k), engine.findTopK(nums, k).toString(), "Trial " + trial);
+        }
+    }
+
+    @Test
+    @DisplayName("Segments should be disjoint and in non-increasing order")
+    void testDisjointAndOrdered() {
+        int[] nums = generateRandomArray(new Random(42), 100000);
+        SubarrayResults results = new TopKDisjointSubarraysEngine().findTopK(nums, 1000);
+
+        assertEquals(1000, results.size());
+        boolean[] used = new boolean[nums.length];
+        for (int k = 0; k < results.size(); k++) {
+            if (k > 0) {
+                assertTrue(results.getSum(k) <= results.getSum(k - 1));
+            }
+            long sum = 0;
+            for (int i = results.getStart(k); i <= results.getEnd(k); i++) {
+                assertFalse(used[i], "Element " + i + " used twice");
+                used[i] = true;
+                sum += nums[i];
+            }
+            assertEquals(results.getSum(k), sum);
+        }
+    }
+
+    @Test
+    @DisplayName("Small arrays should run out before k")
+    void testFewerThanK() {
+        SubarrayResults results = new TopKDisjointSubarraysEngine().findTopK(new int[]{3, -1, 2}, 10);
+
+        assertEquals("[4@[0, 2]]", results.toString());
+        assertEquals(0, new TopKDisjointSubarraysEngine().findTopK(new int[]{1}, 0).size());
+        assertThrows(IllegalArgumentException.class, () -> new TopKDisjointSubarraysEngine().findTopK(new int[]{1}, -1));
+    }
+
+    /**
+     * Reference: rescan every unmasked run, take the best (smallest end on ties), mask it
+     */
+    private String maskAndRescan(int[] nums, int k) {
+        boolean[] masked = new boolean[nums.length];
+        FastKadaneEngine engine = new FastKadaneEngine();
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int step = 0; step < k; step++) {
+            long bestSum = Long.MIN_VALUE;
+            int bestStart = -1;
+            int bestEnd = -1;
+            for (int from = 0; from < nums.length; ) {
+                if (masked[from]) {
+                    from++;
+                    continue;
+                }
+                int to = from;
+                while (to < nums.length && !masked[to]) {
+                    to++;
+                }
+                KadaneAlgorithm.MaximumSubarrayResult run =
+                        engine.findMaximumSubarray(Arrays.copyOfRange(nums, from, to));
+                if (run.getMaxSum() > bestSum) {
+                    bestSum = run.getMaxSum();
+                    bestStart = from + run.getStartIndex();
+                    bestEnd = from + run.getEndIndex();
+                }
+                from = to;
+            }
+            if (bestStart < 0) {
+                break;
+            }
+            for (int i = bestStart; i <= bestEnd; i++) {
+                masked[i] = true;
+            }
+            if (step > 0) {
+                sb.append(", ");
+            }
+            sb.append(String.format("%d@[%d, %d]", bestSum, bestStart, bestEnd));
+        }
+        return sb.append(']').toString();
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
@@ -0,0 +1,92 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Top-k Subarray Sums Engine Tests")
+class TopKSubarraySumsEngineTest {
+
+    private final TopKSubarraySumsEngine engine = new TopKSubarraySumsEngine();
+
+    @Test
+    @DisplayName("Full enumeration should match all subarrays sorted by sum, end, start")
+    void testFullEnumerationMatchesSort() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 50; trial++) {
+            int[] nums = generateRandomArray(random, 1 + random.nextInt(25));
+            List<long[]> expected = allSubarraysSorted(nums);
+
+            SubarrayResults results = engine.findTopK(nums, Integer.MAX_VALUE);
+
+            assertEquals(expected.size(), results.size());
+            for (int k = 0; k < results.size(); k++) {
+                long[] e = expected.get(k);
+                assertEquals(e[0], results.getSum(k), "Sum at rank " + k);
+                assertEquals(e[1], results.getStart(k), "Start at rank " + k);
+                assertEquals(e[2], results.getEnd(k), "End at rank " + k);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("The consumer should be able to stop the enumeration early")
+    void testEarlyStop() {
+        int[] nums = generateRandomArray(new Random(42), 1000);
+        long[] seen = new long[1];
+
+        long emitted = engine.forEachLargest(nums, Long.MAX_VALUE, (sum, start, end) -> ++seen[0] < 5);
+
+        assertEquals(5, emitted);
+        assertEquals(5, seen[0]);
+    }
+
+    @Test
+    @DisplayName("The first result should be the maximum subarray")
+    void testFirstIsMaximumSubarray() {
+        int[] nums = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        SubarrayResults results = engine.findTopK(nums, 3);
+
+        assertEquals("[6@[3, 6], 5@[3, 5], 5@[3, 8]]", results.toString());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void testInvalidArguments() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findTopK(null, 1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findTopK(new int[0], 1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.findTopK(new int[]{1}, -1)),
+            () -> assertThrows(IllegalArgumentException.class, () -> engine.forEachLargest(new int[]{1}, 1, null))
+        );
+    }
+
+    private List<long[]> allSubarraysSorted(int[] nums) {
+        List<long[]> all = new ArrayList<>();
+        for (int start = 0; start < nums.length; start++) {
+            long sum = 0;
+            for (int end = start; end < nums.length; end++) {
+                sum += nums[end];
+                all.add(new long[]{sum, start, end});
+            }
+        }
+        all.sort(Comparator.<long[]>comparingLong(e -> -e[0])
+                .thenComparingLong(e -> e[2])
+                .thenComparingLong(e -> e[1]));
+        return all;
+    }
+
+    private int[] generateRandomArray(Random random, int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(21) - 10;
+        }
+        return array;
+    }
+}
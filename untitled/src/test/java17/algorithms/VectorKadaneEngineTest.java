@@ -0,0 +1,68 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Vector Kadane Engine Tests")
+class VectorKadaneEngineTest {
+    private VectorKadaneEngine vectorEngine;
+    private FastKadaneEngine scalarEngine;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        vectorEngine = new VectorKadaneEngine();
+        scalarEngine = new FastKadaneEngine();
+        random = new Random(42);
+    }
+
+    @Test
+    @DisplayName("Should match the scalar engine for sizes around the lane count")
+    void testMatchesScalarAcrossSizes() {
+        int maxSize = VectorKadaneEngine.laneCount() * 5 + 3;
+        for (int size = 1; size <= maxSize; size++) {
+            for (int i = 0; i < 20; i++) {
+                assertSameResult(generateRandomArray(size, -4, 4));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the scalar engine on large random arrays")
+    void testLargeRandomArrays() {
+        for (int i = 0; i < 10; i++) {
+            assertSameResult(generateRandomArray(100_000, -1000, 1000));
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle all negative and all positive arrays")
+    void testUniformSignArrays() {
+        assertSameResult(generateRandomArray(1000, -100, -1));
+        assertSameResult(generateRandomArray(1000, 1, 100));
+    }
+
+    private void assertSameResult(int[] nums) {
+        KadaneAlgorithm.MaximumSubarrayResult expected = scalarEngine.findMaximumSubarray(nums);
+        KadaneAlgorithm.MaximumSubarrayResult actual = vectorEngine.findMaximumSubarray(nums);
+
+        assertAll("Vector result for size " + nums.length,
+                () -> assertEquals(expected.getMaxSum(), actual.getMaxSum()),
+                () -> assertEquals(expected.getStartIndex(), actual.getStartIndex()),
+                () -> assertEquals(expected.getEndIndex(), actual.getEndIndex())
+        );
+    }
+
+    private int[] generateRandomArray(int size, int min, int max) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(max - min + 1) + min;
+        }
+        return array;
+    }
+}